@@ -0,0 +1,110 @@
+package com.spinner.www.chat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spinner.www.chat.constants.MessageType;
+import com.spinner.www.chat.dto.ChatEnvelope;
+import com.spinner.www.chat.dto.ChatMessageDto;
+import com.spinner.www.chat.io.MessageIo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 1건을 구독자 N명에게 전달하는 비용 비교
+ * baseline: 기존 경로 (JSON 문자열 발행, 수신 서버가 문자열로 바꿔 MessageIo 로 파싱해 라우팅)
+ * envelope: 바이너리 헤더 프레임 발행, 헤더만 읽어 라우팅
+ * 구독자별 작업(simple broker 와 같은 STOMP MESSAGE 프레임 인코딩)은 두 경로가 같은 deliver 를 쓰므로,
+ * 차이는 직렬화와 라우팅에서만 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatEnvelopeBenchmark {
+
+    private static final String DESTINATION_PREFIX = "/room/chat/";
+
+    @Param({"1", "100", "10000"})
+    private int subscribers;
+
+    private ObjectMapper objectMapper;
+    private StompEncoder stompEncoder;
+    private ChatMessageDto message;
+    private String[] subscriptionIds;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션 ObjectMapper 와 같이 모르는 필드는 무시
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        stompEncoder = new StompEncoder();
+        message = ChatMessageDto.builder()
+                .roomIdx(1024L)
+                .messageSeq(987654L)
+                .memberIdx(42L)
+                .content("안녕하세요, 오늘 투표 결과 공유드립니다. 확인 부탁드려요!")
+                .messageType(MessageType.TEXT)
+                .sendDatetime(LocalDateTime.of(2024, 10, 1, 12, 0))
+                .build();
+
+        subscriptionIds = new String[subscribers];
+        for (int i = 0; i < subscribers; i++) subscriptionIds[i] = "sub-" + i;
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) throws Exception {
+        // 발행
+        byte[] body = objectMapper.writeValueAsString(message).getBytes(StandardCharsets.UTF_8);
+
+        // 수신: 문자열로 바꿔 본문을 파싱해 채팅방 idx 확인
+        String publish = new String(body, StandardCharsets.UTF_8);
+        MessageIo messageIo = objectMapper.readValue(publish, MessageIo.class);
+        String destination = DESTINATION_PREFIX + messageIo.getRoomIdx();
+
+        deliver(destination, publish.getBytes(StandardCharsets.UTF_8), blackhole);
+    }
+
+    @Benchmark
+    public void envelope(Blackhole blackhole) throws Exception {
+        // 발행
+        byte[] frame = ChatEnvelope.encode(message.getRoomIdx(), message.getMessageType(), objectMapper.writeValueAsBytes(message));
+
+        // 수신: 헤더로 라우팅, 본문은 파싱하지 않음
+        ChatEnvelope envelope = ChatEnvelope.decode(frame);
+        String destination = DESTINATION_PREFIX + envelope.getRoomIdx();
+
+        deliver(destination, envelope.getPayload(), blackhole);
+    }
+
+    /**
+     * 구독자마다 STOMP MESSAGE 프레임 인코딩 (구독 id 만 다르고 본문은 공유)
+     */
+    private void deliver(String destination, byte[] payload, Blackhole blackhole) {
+        for (int i = 0; i < subscribers; i++) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+            accessor.setSubscriptionId(subscriptionIds[i]);
+            accessor.setDestination(destination);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            byte[] bytes = stompEncoder.encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            blackhole.consume(new TextMessage(bytes).getPayloadLength());
+        }
+    }
+}
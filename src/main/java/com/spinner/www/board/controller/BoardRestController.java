@@ -3,12 +3,14 @@ package com.spinner.www.board.controller;
 import com.spinner.www.common.io.CommonResponse;
 import com.spinner.www.board.io.BoardCreateRequest;
 import com.spinner.www.board.io.BoardUpdateRequest;
+import com.spinner.www.board.service.BoardSearchService;
 import com.spinner.www.board.service.BoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,6 +24,7 @@ import java.util.List;
 public class BoardRestController {
 
     private final BoardService boardService;
+    private final BoardSearchService boardSearchService;
 
     /**
      * 게시글 생성
@@ -61,38 +64,54 @@ public class BoardRestController {
             responses = {
                     @ApiResponse(content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "20000", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 같아 변경 없음"),
                     @ApiResponse(responseCode = "50001", description = "데이터를 찾을 수 없음.")
             })
     @GetMapping("/{boardType}/{boardIdx}")
-    public ResponseEntity<CommonResponse> findByBoardInfo(@PathVariable("boardType") String boardType, @PathVariable("boardIdx") Long boardIdx) {
-        return boardService.findByBoardInfo(boardType, boardIdx);
+    public ResponseEntity<CommonResponse> findByBoardInfo(@PathVariable("boardType") String boardType,
+                                                          @PathVariable("boardIdx") Long boardIdx,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardService.findByBoardInfo(boardType, boardIdx, ifNoneMatch);
     }
 
     /**
      * 게시글 목록 조회
      * @param boardType String
      * @param idx Long 조회 시작 idx
+     * @param score Long 검색 시 이전 페이지 마지막 게시글 점수
+     * @param hotScore Double 인기순일 때 이전 페이지 마지막 게시글 인기 점수
      * @param size int 조회할 목록 갯수
      * @param keyword String 조회할 키워드
+     * @param sort String 정렬
      * @return searchParamRequest<CommonResponse> 게시글 목록
      */
     @Operation(description = "게시글 목록을 조회합니다. <br/>" +
             "해당 idx부터 size까지 게시글의 목록을 출력합니다 <br/>" +
-            "keyword에 값이 있을 시 keyword에 해당하는 제목과 작성자를 출력합니다.<br/><br/>" +
+            "keyword에 값이 있을 시 keyword에 해당하는 제목과 작성자를 출력합니다.<br/>" +
+            "sort가 hot이면 좋아요/댓글/조회수와 작성 시각으로 계산한 인기순으로 출력하며, 다음 페이지는 이전 페이지 마지막 게시글의 hotScore와 idx를 함께 전달합니다.<br/>" +
+            "keyword 검색 결과는 점수순이며, 다음 페이지는 이전 페이지 마지막 게시글의 score와 idx를 함께 전달합니다.<br/><br/>" +
+            "<strong>[sort]</strong> <br/>" +
+            "latest : 최신순 (기본값) <br/>" +
+            "hot    : 인기순 <br/><br/>" +
             "<strong>[boardType]</strong> <br/>" +
             "verify : 공부인증글 <br/>" +
             "free   : 자유글",
             responses = {
                     @ApiResponse(content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "20000", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 같아 변경 없음"),
                     @ApiResponse(responseCode = "50001", description = "데이터를 찾을 수 없음.")
             })
     @GetMapping("/{boardType}")
     public ResponseEntity<CommonResponse> findByAll(@PathVariable("boardType") String boardType,
                                                     @RequestParam(value = "idx", required = false) Long idx,
+                                                    @RequestParam(value = "score", required = false) Long score,
+                                                    @RequestParam(value = "hotScore", required = false) Double hotScore,
                                                     @RequestParam(value = "size", required = false) int size,
-                                                    @RequestParam(value = "keyword", required = false) String keyword) {
-        return boardService.getSliceOfBoard(boardType, idx, size, keyword);
+                                                    @RequestParam(value = "keyword", required = false) String keyword,
+                                                    @RequestParam(value = "sort", required = false) String sort,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardService.getSliceOfBoard(boardType, idx, score, hotScore, size, keyword, sort, ifNoneMatch);
     }
 
     /**
@@ -165,4 +184,21 @@ public class BoardRestController {
         return boardService.upsertLike(boardType, boardIdx);
     }
 
+    /**
+     * 검색 색인 재생성
+     * @return ResponseEntity<CommonResponse> 색인된 게시글 수
+     */
+    @Operation(description = "게시글 검색 색인을 DB 기준으로 다시 생성합니다. (어드민 전용) <br/>" +
+            "색인된 게시글 수를 반환합니다.",
+            responses = {
+                    @ApiResponse(content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "20000", description = "요청 성공"),
+                    @ApiResponse(responseCode = "40101", description = "권한이 없습니다."),
+                    @ApiResponse(responseCode = "40301", description = "올바르지 않은 접근입니다.")
+            })
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<CommonResponse> rebuildSearchIndex() {
+        return boardSearchService.rebuild();
+    }
+
 }
@@ -0,0 +1,11 @@
+package com.spinner.www.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BoardContentDto {
+    private Long boardIdx;
+    private String boardContent;
+}
@@ -0,0 +1,30 @@
+package com.spinner.www.board.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BoardDetailDto {
+    private Long boardIdx;
+    private Long memberIdx;
+    private String boardTitle;
+    private String boardContent;
+    private long likeCount;
+    private Long hitCount;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+
+    @QueryProjection
+    public BoardDetailDto(Long boardIdx, Long memberIdx, String boardTitle, String boardContent, Long likeCount, Long hitCount, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.boardIdx = boardIdx;
+        this.memberIdx = memberIdx;
+        this.boardTitle = boardTitle;
+        this.boardContent = boardContent;
+        this.likeCount = likeCount;
+        this.hitCount = hitCount;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+}
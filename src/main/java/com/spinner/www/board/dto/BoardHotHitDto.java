@@ -0,0 +1,17 @@
+package com.spinner.www.board.dto;
+
+import lombok.Getter;
+
+/**
+ * 인기글 순위 결과 (게시글 idx + 인기 점수, 다음 페이지 커서로 함께 사용)
+ */
+@Getter
+public class BoardHotHitDto {
+    private Long boardIdx;
+    private Double score;
+
+    public BoardHotHitDto(Long boardIdx, Double score) {
+        this.boardIdx = boardIdx;
+        this.score = score;
+    }
+}
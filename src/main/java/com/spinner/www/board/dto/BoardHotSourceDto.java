@@ -0,0 +1,30 @@
+package com.spinner.www.board.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BoardHotSourceDto {
+    private Long boardIdx;
+    private Long codeIdx;
+    private long likeCount;
+    private long replyCount;
+    private long hitCount;
+    private int boardIsRemoved;
+    private int boardIsReported;
+    private LocalDateTime createdDate;
+
+    @QueryProjection
+    public BoardHotSourceDto(Long boardIdx, Long codeIdx, Long likeCount, Long replyCount, Long hitCount, Integer boardIsRemoved, Integer boardIsReported, LocalDateTime createdDate) {
+        this.boardIdx = boardIdx;
+        this.codeIdx = codeIdx;
+        this.likeCount = likeCount == null ? 0L : likeCount;
+        this.replyCount = replyCount == null ? 0L : replyCount;
+        this.hitCount = hitCount == null ? 0L : hitCount;
+        this.boardIsRemoved = boardIsRemoved;
+        this.boardIsReported = boardIsReported;
+        this.createdDate = createdDate;
+    }
+}
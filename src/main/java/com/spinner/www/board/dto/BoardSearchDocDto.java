@@ -0,0 +1,26 @@
+package com.spinner.www.board.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+@Getter
+public class BoardSearchDocDto {
+    private Long boardIdx;
+    private Long codeIdx;
+    private String boardTitle;
+    private String boardContent;
+    private String memberNickname;
+    private int boardIsRemoved;
+    private int boardIsReported;
+
+    @QueryProjection
+    public BoardSearchDocDto(Long boardIdx, Long codeIdx, String boardTitle, String boardContent, String memberNickname, Integer boardIsRemoved, Integer boardIsReported) {
+        this.boardIdx = boardIdx;
+        this.codeIdx = codeIdx;
+        this.boardTitle = boardTitle;
+        this.boardContent = boardContent;
+        this.memberNickname = memberNickname;
+        this.boardIsRemoved = boardIsRemoved;
+        this.boardIsReported = boardIsReported;
+    }
+}
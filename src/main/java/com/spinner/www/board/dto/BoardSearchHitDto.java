@@ -0,0 +1,17 @@
+package com.spinner.www.board.dto;
+
+import lombok.Getter;
+
+/**
+ * 검색 결과 (게시글 idx + 검색 점수, 다음 페이지 커서로 함께 사용)
+ */
+@Getter
+public class BoardSearchHitDto {
+    private Long boardIdx;
+    private Long score;
+
+    public BoardSearchHitDto(Long boardIdx, Long score) {
+        this.boardIdx = boardIdx;
+        this.score = score;
+    }
+}
@@ -0,0 +1,20 @@
+package com.spinner.www.board.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BoardVersionDto {
+    private Long boardIdx;
+    private long boardVersion;
+    private LocalDateTime modifiedDate;
+
+    @QueryProjection
+    public BoardVersionDto(Long boardIdx, Long boardVersion, LocalDateTime modifiedDate) {
+        this.boardIdx = boardIdx;
+        this.boardVersion = boardVersion == null ? 0L : boardVersion;
+        this.modifiedDate = modifiedDate;
+    }
+}
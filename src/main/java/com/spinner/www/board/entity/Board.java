@@ -3,6 +3,7 @@ import com.spinner.www.common.entity.BaseEntity;
 import com.spinner.www.like.entity.Like;
 import com.spinner.www.member.entity.Member;
 import com.spinner.www.reply.entity.Reply;
+import com.spinner.www.util.BoardContentUtils;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,16 +11,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_list", columnList = "codeIdx, boardIsRemoved, boardIsReported, boardIdx")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
+@DynamicUpdate
 @Comment("게시판 테이블")
 
 public class Board extends BaseEntity {
@@ -46,6 +51,19 @@ public class Board extends BaseEntity {
     @Comment("내용")
     private String boardContent;
 
+    @ColumnDefault("0")
+    @Comment("본문 저장 형식 | 0 (이스케이프된 이전 형식), 1 (허용 태그만 남긴 HTML)")
+    @Column(nullable = false)
+    private int boardContentFormat;
+
+    @Column(length = 300)
+    @Comment("목록 미리보기 (태그 제거한 본문 앞부분)")
+    private String boardPreview;
+
+    @Column(length = BoardContentUtils.THUMBNAIL_LENGTH)
+    @Comment("목록 썸네일 (본문 첫 이미지/동영상 주소)")
+    private String boardThumbnail;
+
     @ColumnDefault("0")
     @Comment("삭제여부")
     private int boardIsRemoved;
@@ -59,6 +77,26 @@ public class Board extends BaseEntity {
     @Column(nullable = false)
     private Long hitCount;
 
+    @ColumnDefault("0")
+    @Comment("삭제되지 않은 댓글수")
+    @Column(nullable = false)
+    private long replyCount;
+
+    @ColumnDefault("0")
+    @Comment("좋아요수")
+    @Column(nullable = false)
+    private long likeCount;
+
+    @ColumnDefault("0")
+    @Comment("삭제되지 않은 투표수")
+    @Column(nullable = false)
+    private long voteCount;
+
+    @ColumnDefault("0")
+    @Comment("댓글/좋아요/투표 변경 시 증가하는 버전 (ETag 용)")
+    @Column(nullable = false)
+    private long boardVersion;
+
     @OneToMany(mappedBy = "boardIdx"
             ,fetch = FetchType.LAZY)
     private List<Reply> replies = new ArrayList<>();
@@ -67,13 +105,12 @@ public class Board extends BaseEntity {
             ,fetch = FetchType.LAZY)
     private List<Like> likes = new ArrayList<>();
 
-    public void update(String boardTitle, String boardContent) {
+    public void update(String boardTitle, String boardContent, String boardPreview, String boardThumbnail) {
         this.boardTitle = boardTitle;
         this.boardContent = boardContent;
-    }
-
-    public void increaseHitCount() {
-        this.hitCount += 1;
+        this.boardContentFormat = BoardContentUtils.FORMAT_SANITIZED;
+        this.boardPreview = boardPreview;
+        this.boardThumbnail = boardThumbnail;
     }
 
     public void delete() {
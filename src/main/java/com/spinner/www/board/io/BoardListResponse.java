@@ -1,5 +1,8 @@
 package com.spinner.www.board.io;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.spinner.www.common.io.BaseResponse;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,20 +15,32 @@ import java.time.LocalDateTime;
 @Setter
 public class BoardListResponse extends BaseResponse {
     private Long idx;
+    @JsonIgnore
+    private Long memberIdx;
     private String title;
-    private String content;
+    private String preview;
+    private String thumbnail;
     private String nickName;
     private Long voteCount;
     private Long replyCount;
     private Long likeCount;
     private Long hitCount;
+    @JsonProperty("isLiked")
+    private boolean isLiked;
+    // 검색 점수 (검색 시 다음 페이지 커서로 idx 와 함께 전달)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long score;
+    // 인기 점수 (인기순 조회 시 다음 페이지 커서로 idx 와 함께 전달)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double hotScore;
 
-    public BoardListResponse(Long idx, String title, String content, String nickName, Long voteCount, Long replyCount, Long likeCount, Long hitCount, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+    public BoardListResponse(Long idx, String title, String preview, String thumbnail, Long memberIdx, Long voteCount, Long replyCount, Long likeCount, Long hitCount, LocalDateTime createdDate, LocalDateTime modifiedDate) {
         super(createdDate, modifiedDate);
         this.idx = idx;
         this.title = title;
-        this.content = content;
-        this.nickName = nickName;
+        this.preview = preview;
+        this.thumbnail = thumbnail;
+        this.memberIdx = memberIdx;
         this.voteCount = voteCount;
         this.replyCount = replyCount;
         this.likeCount = likeCount;
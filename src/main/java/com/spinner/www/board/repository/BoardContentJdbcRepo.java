@@ -0,0 +1,60 @@
+package com.spinner.www.board.repository;
+
+import com.spinner.www.board.dto.BoardContentDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardContentJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 미리보기가 없는 게시글 조회 (idx 오름차순 커서)
+     * @param afterIdx long 이 idx 이후부터 조회
+     * @param size int 조회 갯수
+     * @return List<BoardContentDto>
+     */
+    public List<BoardContentDto> findWithoutPreview(long afterIdx, int size) {
+        return jdbcTemplate.query(
+                "SELECT board_idx, board_content FROM board WHERE board_idx > ? AND board_preview IS NULL ORDER BY board_idx LIMIT ?",
+                (rs, rowNum) -> new BoardContentDto(rs.getLong("board_idx"), rs.getString("board_content")),
+                afterIdx, size);
+    }
+
+    /**
+     * 이스케이프된 이전 형식 본문 게시글 조회 (idx 오름차순 커서)
+     * @param afterIdx long 이 idx 이후부터 조회
+     * @param size int 조회 갯수
+     * @return List<BoardContentDto>
+     */
+    public List<BoardContentDto> findEscaped(long afterIdx, int size) {
+        return jdbcTemplate.query(
+                "SELECT board_idx, board_content FROM board WHERE board_idx > ? AND board_content_format = 0 ORDER BY board_idx LIMIT ?",
+                (rs, rowNum) -> new BoardContentDto(rs.getLong("board_idx"), rs.getString("board_content")),
+                afterIdx, size);
+    }
+
+    /**
+     * 정제된 본문/미리보기/썸네일 일괄 저장
+     * @param rows List<Object[]> {content, preview, thumbnail, boardIdx}
+     */
+    public void updateSanitizedAll(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate("UPDATE board SET board_content = ?, board_content_format = 1, board_preview = ?, board_thumbnail = ? WHERE board_idx = ?", new ArrayList<>(rows));
+    }
+
+    /**
+     * 미리보기/썸네일 일괄 저장
+     * @param rows List<Object[]> {preview, thumbnail, boardIdx}
+     */
+    public void updatePreviewAll(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate("UPDATE board SET board_preview = ?, board_thumbnail = ? WHERE board_idx = ?", new ArrayList<>(rows));
+    }
+}
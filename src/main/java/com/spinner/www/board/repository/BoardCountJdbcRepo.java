@@ -0,0 +1,127 @@
+package com.spinner.www.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardCountJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 가장 큰 게시글 idx
+     * @return long
+     */
+    public long getMaxBoardIdx() {
+        Long maxIdx = jdbcTemplate.queryForObject("SELECT MAX(board_idx) FROM board", Long.class);
+        return maxIdx == null ? 0L : maxIdx;
+    }
+
+    /**
+     * 댓글/좋아요/투표가 있는데 카운터가 0인 게시글이 있는지 (카운터 컬럼 추가 이전에 작성된 게시글)
+     * @return boolean
+     */
+    public boolean existsMissingCount() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS(SELECT 1 FROM reply r"
+                + "        JOIN board b ON b.board_idx = r.board_idx"
+                + "        WHERE r.reply_is_removed = 0 AND b.reply_count = 0)"
+                + " OR EXISTS(SELECT 1 FROM likes l"
+                + "        JOIN board b ON b.board_idx = l.board_idx"
+                + "        WHERE l.like_is_liked = 1 AND b.like_count = 0)"
+                + " OR EXISTS(SELECT 1 FROM vote v"
+                + "        JOIN board b ON b.board_idx = v.board_idx"
+                + "        WHERE v.vote_is_removed = 'N' AND b.vote_count = 0)", Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 게시글 댓글/좋아요/투표수를 원본 테이블 기준으로 다시 계산
+     * 값이 실제로 달라진 게시글만 수정하고 ETag 버전을 올린다 (변경 없는 글의 캐시는 유지).
+     * @param fromIdx long 시작 idx (미포함)
+     * @param toIdx long 종료 idx (포함)
+     * @return int 보정한 게시글 수
+     */
+    public int reconcile(long fromIdx, long toIdx) {
+        String sql = "UPDATE board b"
+                + " LEFT JOIN (SELECT r.board_idx, COUNT(*) AS cnt FROM reply r"
+                + "            WHERE r.board_idx > ? AND r.board_idx <= ? AND r.reply_is_removed = 0"
+                + "            GROUP BY r.board_idx) rc ON rc.board_idx = b.board_idx"
+                + " LEFT JOIN (SELECT l.board_idx, COUNT(*) AS cnt FROM likes l"
+                + "            WHERE l.board_idx > ? AND l.board_idx <= ? AND l.like_is_liked = 1"
+                + "            GROUP BY l.board_idx) lc ON lc.board_idx = b.board_idx"
+                + " LEFT JOIN (SELECT v.board_idx, COUNT(*) AS cnt FROM vote v"
+                + "            WHERE v.board_idx > ? AND v.board_idx <= ? AND v.vote_is_removed = 'N'"
+                + "            GROUP BY v.board_idx) vc ON vc.board_idx = b.board_idx"
+                + " SET b.reply_count = COALESCE(rc.cnt, 0),"
+                + " b.like_count = COALESCE(lc.cnt, 0),"
+                + " b.vote_count = COALESCE(vc.cnt, 0),"
+                + " b.board_version = b.board_version + 1"
+                + " WHERE b.board_idx > ? AND b.board_idx <= ?"
+                + " AND (b.reply_count <> COALESCE(rc.cnt, 0)"
+                + "   OR b.like_count <> COALESCE(lc.cnt, 0)"
+                + "   OR b.vote_count <> COALESCE(vc.cnt, 0))";
+        return jdbcTemplate.update(sql, fromIdx, toIdx, fromIdx, toIdx, fromIdx, toIdx, fromIdx, toIdx);
+    }
+
+    /**
+     * 게시글 구간의 댓글별 대댓글수를 원본 기준으로 다시 계산
+     * (같은 테이블을 서브쿼리로 참조해 수정할 수 없어 집계 결과를 파생 테이블로 조인)
+     * @param fromIdx long 시작 게시글 idx (미포함)
+     * @param toIdx long 종료 게시글 idx (포함)
+     * @return int 보정한 댓글 수
+     */
+    public int reconcileReplyChildCount(long fromIdx, long toIdx) {
+        String sql = "UPDATE reply p"
+                + " LEFT JOIN (SELECT c.reply_parent_idx, COUNT(*) AS child_count FROM reply c"
+                + "            WHERE c.board_idx > ? AND c.board_idx <= ? AND c.reply_parent_idx IS NOT NULL AND c.reply_is_removed = 0"
+                + "            GROUP BY c.reply_parent_idx) t ON t.reply_parent_idx = p.reply_idx"
+                + " SET p.reply_child_count = COALESCE(t.child_count, 0)"
+                + " WHERE p.board_idx > ? AND p.board_idx <= ?"
+                + " AND p.reply_child_count <> COALESCE(t.child_count, 0)";
+        return jdbcTemplate.update(sql, fromIdx, toIdx, fromIdx, toIdx);
+    }
+
+    /**
+     * 대댓글이 있는데 대댓글수가 0인 댓글이 있는지 (대댓글수 컬럼 추가 이전에 작성된 댓글)
+     * @return boolean
+     */
+    public boolean existsMissingReplyChildCount() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS(SELECT 1 FROM reply c"
+                + " JOIN reply p ON p.reply_idx = c.reply_parent_idx"
+                + " WHERE c.reply_is_removed = 0 AND p.reply_child_count = 0)", Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 게시글 좋아요수 증감분 일괄 반영 (좋아요 여부가 바뀌었으므로 증감분이 0이어도 버전은 올린다)
+     * @param deltaMap Map<Long, Long> 게시글 idx 별 증감분
+     */
+    public void increaseLikeCountAll(Map<Long, Long> deltaMap) {
+        if (deltaMap.isEmpty()) return;
+
+        List<Object[]> params = new ArrayList<>(deltaMap.size());
+        deltaMap.forEach((boardIdx, delta) -> params.add(new Object[]{delta, boardIdx}));
+        jdbcTemplate.batchUpdate("UPDATE board SET like_count = like_count + ?, board_version = board_version + 1"
+                + " WHERE board_idx = ?", params);
+    }
+
+    /**
+     * 댓글이 속한 게시글 버전 일괄 증가
+     * @param replyIdxList Collection<Long> 댓글 idx 목록
+     */
+    public void increaseVersionByReplyIdxAll(Collection<Long> replyIdxList) {
+        if (replyIdxList.isEmpty()) return;
+
+        List<Object[]> params = new ArrayList<>(replyIdxList.size());
+        replyIdxList.forEach(replyIdx -> params.add(new Object[]{replyIdx}));
+        jdbcTemplate.batchUpdate("UPDATE board SET board_version = board_version + 1"
+                + " WHERE board_idx = (SELECT r.board_idx FROM reply r WHERE r.reply_idx = ?)", params);
+    }
+}
@@ -0,0 +1,95 @@
+package com.spinner.www.board.repository;
+
+import com.spinner.www.board.dto.BoardHotHitDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Redis 없이 실행할 때 쓰는 인기글 순위 저장소 (게시판 타입별 skip list)
+ */
+@Repository
+@ConditionalOnProperty(name = "board.hot.store", havingValue = "memory", matchIfMissing = true)
+public class BoardHotRankMemoryRepo implements BoardHotRankRepo {
+
+    private record Entry(double score, long boardIdx) {
+    }
+
+    // 점수 내림차순, 같은 점수면 최신 글 우선
+    private static final Comparator<Entry> HOT_ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::boardIdx).reversed());
+
+    private static class Ranking {
+        private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(HOT_ORDER);
+        private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+    }
+
+    private final ConcurrentHashMap<Long, Ranking> rankings = new ConcurrentHashMap<>();
+
+    @Override
+    public void putAll(Long codeIdx, Map<Long, Double> scoreMap) {
+        Ranking ranking = rankings.computeIfAbsent(codeIdx, key -> new Ranking());
+        synchronized (ranking) {
+            scoreMap.forEach((boardIdx, score) -> {
+                Double before = ranking.scores.put(boardIdx, score);
+                if (before != null) ranking.entries.remove(new Entry(before, boardIdx));
+                ranking.entries.add(new Entry(score, boardIdx));
+            });
+        }
+    }
+
+    @Override
+    public void removeAll(Long codeIdx, Collection<Long> idxList) {
+        Ranking ranking = rankings.get(codeIdx);
+        if (ranking == null) return;
+
+        synchronized (ranking) {
+            for (Long boardIdx : idxList) {
+                Double before = ranking.scores.remove(boardIdx);
+                if (before != null) ranking.entries.remove(new Entry(before, boardIdx));
+            }
+        }
+    }
+
+    @Override
+    public List<BoardHotHitDto> getPage(Long codeIdx, @Nullable Double cursorScore, @Nullable Long cursorIdx, int size) {
+        List<BoardHotHitDto> page = new ArrayList<>(size);
+        Ranking ranking = rankings.get(codeIdx);
+        if (ranking == null) return page;
+
+        NavigableSet<Entry> view = ranking.entries;
+        if (cursorScore != null && cursorIdx != null) {
+            // 커서 글이 순위에 없어도 (점수, idx) 위치 다음부터 이어서 조회
+            view = ranking.entries.tailSet(new Entry(cursorScore, cursorIdx), false);
+        }
+
+        for (Entry entry : view) {
+            if (page.size() >= size) break;
+            page.add(new BoardHotHitDto(entry.boardIdx(), entry.score()));
+        }
+        return page;
+    }
+
+    @Override
+    public void trim(Long codeIdx, int maxSize) {
+        Ranking ranking = rankings.get(codeIdx);
+        if (ranking == null) return;
+
+        synchronized (ranking) {
+            while (ranking.entries.size() > maxSize) {
+                Entry last = ranking.entries.pollLast();
+                if (last == null) break;
+                ranking.scores.remove(last.boardIdx(), last.score());
+            }
+        }
+    }
+}
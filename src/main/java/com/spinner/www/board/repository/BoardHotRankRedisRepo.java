@@ -0,0 +1,112 @@
+package com.spinner.www.board.repository;
+
+import com.spinner.www.board.dto.BoardHotHitDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시판 타입별 Redis sorted set 인기글 순위 저장소 (board:hot:{codeIdx})
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.hot.store", havingValue = "redis")
+public class BoardHotRankRedisRepo implements BoardHotRankRepo {
+
+    private static final String KEY_PREFIX = "board:hot:";
+
+    // 점수 내림차순, 같은 점수면 최신 글 우선 (Redis 는 같은 점수를 문자열 순으로 정렬하므로 직접 정렬)
+    private static final Comparator<BoardHotHitDto> HOT_ORDER = Comparator.comparing(BoardHotHitDto::getScore).reversed()
+            .thenComparing(Comparator.comparing(BoardHotHitDto::getBoardIdx).reversed());
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void putAll(Long codeIdx, Map<Long, Double> scoreMap) {
+        if (scoreMap.isEmpty()) return;
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        scoreMap.forEach((boardIdx, score) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(boardIdx), score)));
+        stringRedisTemplate.opsForZSet().add(getKey(codeIdx), tuples);
+    }
+
+    @Override
+    public void removeAll(Long codeIdx, Collection<Long> idxList) {
+        if (idxList.isEmpty()) return;
+
+        Object[] members = idxList.stream().map(String::valueOf).toArray();
+        stringRedisTemplate.opsForZSet().remove(getKey(codeIdx), members);
+    }
+
+    @Override
+    public List<BoardHotHitDto> getPage(Long codeIdx, @Nullable Double cursorScore, @Nullable Long cursorIdx, int size) {
+        if (size <= 0) return List.of();
+
+        String key = getKey(codeIdx);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        Map<Long, Double> candidates = new HashMap<>();
+
+        Set<TypedTuple<String>> tuples;
+        if (cursorScore == null || cursorIdx == null) {
+            tuples = zSet.reverseRangeWithScores(key, 0, size - 1L);
+        } else {
+            // 커서와 같은 점수 중 커서보다 idx 가 작은 글 + 커서보다 낮은 점수의 글
+            addAll(candidates, zSet.reverseRangeByScoreWithScores(key, cursorScore, cursorScore), cursorIdx);
+            tuples = zSet.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, Math.nextDown(cursorScore), 0, size);
+        }
+        addAll(candidates, tuples, null);
+
+        // 갯수 제한에 걸렸으면 마지막 점수와 같은 글이 잘렸을 수 있으므로 그 점수 구간을 모두 읽는다 (trim 으로 최대 maxSize 개)
+        if (tuples != null && tuples.size() >= size) {
+            Double lastScore = null;
+            for (TypedTuple<String> tuple : tuples) lastScore = tuple.getScore();
+            if (lastScore != null) addAll(candidates, zSet.reverseRangeByScoreWithScores(key, lastScore, lastScore), null);
+        }
+
+        return candidates.entrySet().stream()
+                .map(entry -> new BoardHotHitDto(entry.getKey(), entry.getValue()))
+                .sorted(HOT_ORDER)
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public void trim(Long codeIdx, int maxSize) {
+        // 오름차순 0 ~ -(maxSize + 1) 은 상위 maxSize 개를 제외한 나머지
+        stringRedisTemplate.opsForZSet().removeRange(getKey(codeIdx), 0, -(maxSize + 1L));
+    }
+
+    /**
+     * 조회 결과를 후보에 추가
+     * @param candidates Map<Long, Double> 게시글 idx 별 점수
+     * @param tuples Set<TypedTuple<String>> 조회 결과
+     * @param belowIdx Long 이 idx 보다 작은 글만 추가 (null 이면 전부)
+     */
+    private void addAll(Map<Long, Double> candidates, @Nullable Set<TypedTuple<String>> tuples, @Nullable Long belowIdx) {
+        if (tuples == null) return;
+
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) continue;
+            Long boardIdx = Long.valueOf(tuple.getValue());
+            if (belowIdx != null && boardIdx >= belowIdx) continue;
+            candidates.put(boardIdx, tuple.getScore());
+        }
+    }
+
+    private String getKey(Long codeIdx) {
+        return KEY_PREFIX + codeIdx;
+    }
+}
@@ -0,0 +1,46 @@
+package com.spinner.www.board.repository;
+
+import com.spinner.www.board.dto.BoardHotHitDto;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시판 타입별 인기글 순위 저장소 (점수 내림차순)
+ */
+public interface BoardHotRankRepo {
+
+    /**
+     * 인기글 점수 저장 (이미 있으면 갱신)
+     * @param codeIdx Long 게시판 타입
+     * @param scoreMap Map<Long, Double> 게시글 idx 별 점수
+     */
+    void putAll(Long codeIdx, Map<Long, Double> scoreMap);
+
+    /**
+     * 순위에서 제거
+     * @param codeIdx Long 게시판 타입
+     * @param idxList Collection<Long> 게시글 idx 목록
+     */
+    void removeAll(Long codeIdx, Collection<Long> idxList);
+
+    /**
+     * 인기글 목록 조회 (점수 내림차순, 같은 점수면 idx 내림차순)
+     * 커서는 이전 페이지 마지막 게시글의 (점수, idx) 이므로 그 사이 커서 글의 점수가 바뀌거나 순위에서 빠져도 이어서 조회된다.
+     * @param codeIdx Long 게시판 타입
+     * @param cursorScore Double 이전 페이지 마지막 게시글 점수 (없으면 처음부터)
+     * @param cursorIdx Long 이전 페이지 마지막 게시글 idx (없으면 처음부터)
+     * @param size int 조회 갯수
+     * @return List<BoardHotHitDto> 게시글 idx + 점수
+     */
+    List<BoardHotHitDto> getPage(Long codeIdx, @Nullable Double cursorScore, @Nullable Long cursorIdx, int size);
+
+    /**
+     * 상위 maxSize 개만 남기고 제거
+     * @param codeIdx Long 게시판 타입
+     * @param maxSize int 유지할 갯수
+     */
+    void trim(Long codeIdx, int maxSize);
+}
@@ -1,28 +1,31 @@
 package com.spinner.www.board.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spinner.www.board.dto.BoardDetailDto;
+import com.spinner.www.board.dto.BoardHotSourceDto;
+import com.spinner.www.board.dto.BoardSearchDocDto;
+import com.spinner.www.board.dto.BoardVersionDto;
+import com.spinner.www.board.dto.QBoardDetailDto;
+import com.spinner.www.board.dto.QBoardHotSourceDto;
+import com.spinner.www.board.dto.QBoardSearchDocDto;
+import com.spinner.www.board.dto.QBoardVersionDto;
 import com.spinner.www.board.io.BoardListResponse;
-import com.spinner.www.board.io.BoardResponse;
-import com.spinner.www.member.entity.QMember;
-import com.spinner.www.reply.entity.QReply;
-import com.spinner.www.reply.io.ReplyResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static com.querydsl.core.group.GroupBy.groupBy;
-import static com.querydsl.core.types.Projections.list;
 import static com.spinner.www.board.entity.QBoard.board;
-import static com.spinner.www.like.entity.QLike.like;
-import static com.spinner.www.reply.entity.QReply.reply;
-import static com.spinner.www.vote.entity.QVote.vote;
 
 @Repository
 @RequiredArgsConstructor
@@ -30,46 +33,105 @@ public class BoardQueryRepo {
     private final JPAQueryFactory jpaQueryFactory;
     private final int NOT_REMOVED = 0;
     private final int NOT_REPORTED = 0;
-    private final int IS_LIKE = 1;
 
-    QReply childReply = new QReply("childReply");
-    QMember memberReply = new QMember("memberReply");
-    QMember memberChildReply = new QMember("memberChildReply");
+    /**
+     * 검색 색인 결과 idx 목록에 해당하는 게시글 조회 (idx 목록 순서 유지)
+     * @param codeIdx Long 게시판 타입
+     * @param idxList List<Long> 게시글 idx 목록
+     * @return List<BoardListResponse>
+     */
+    public List<BoardListResponse> getSliceOfBoardByIdx(Long codeIdx, List<Long> idxList) {
+        if (idxList.isEmpty()) return new ArrayList<>();
 
-    public List<BoardListResponse> getSliceOfBoard(
-            Long codeIdx,
-            @Nullable
-            Long idx,
-            int size,
-            @Nullable
-            String keyword
-    ) {
-        return jpaQueryFactory.select(
-                        Projections.constructor(
-                                BoardListResponse.class,
-                                board.boardIdx,
-                                board.boardTitle,
-                                board.boardContent,
-                                board.member.memberNickname,
-                                JPAExpressions.select(vote.count())
-                                        .from(vote)
-                                        .where(vote.board.boardIdx.eq(board.boardIdx)
-                                                .and(vote.voteIsRemoved.eq("N"))),
-                                JPAExpressions
-                                        .select(reply.count())
-                                        .from(reply)
-                                        .where(reply.boardIdx.eq(board.boardIdx)
-                                                .and(reply.replyIsRemoved.eq(NOT_REMOVED))),
-                                JPAExpressions
-                                        .select(like.count())
-                                        .from(like)
-                                        .where(like.boardIdx.eq(board.boardIdx)
-                                                .and(like.likeIsLiked.eq(IS_LIKE))),
-                                board.hitCount,
-                                board.createdDate,
-                                board.modifiedDate
-                        )
-                )
+        List<BoardListResponse> list = jpaQueryFactory.select(boardListProjection())
+                .from(board)
+                .where(getCodeIdx(codeIdx), getNotRemoved(), getNotReported(), board.boardIdx.in(idxList))
+                .fetch();
+
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < idxList.size(); i++) {
+            order.put(idxList.get(i), i);
+        }
+        list.sort(Comparator.comparing(response -> order.get(response.getIdx())));
+        return list;
+    }
+
+    /**
+     * 검색 색인용 게시글 조회 (idx 오름차순 커서)
+     * @param afterIdx Long 이 idx 이후부터 조회
+     * @param size int 조회 갯수
+     * @return List<BoardSearchDocDto>
+     */
+    public List<BoardSearchDocDto> getSearchDocs(Long afterIdx, int size) {
+        return jpaQueryFactory.select(searchDocProjection())
+                .from(board)
+                .where(board.boardIdx.gt(afterIdx))
+                .orderBy(board.boardIdx.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 특정 시점 이후 수정된 게시글 조회 (삭제/신고 포함)
+     * @param since LocalDateTime 기준 시점
+     * @return List<BoardSearchDocDto>
+     */
+    public List<BoardSearchDocDto> getSearchDocsModifiedAfter(LocalDateTime since) {
+        return jpaQueryFactory.select(searchDocProjection())
+                .from(board)
+                .where(board.modifiedDate.goe(since))
+                .fetch();
+    }
+
+    /**
+     * 인기글 점수 계산용 게시글 조회 (삭제/신고 포함)
+     * @param idxList List<Long> 게시글 idx 목록
+     * @return List<BoardHotSourceDto>
+     */
+    public List<BoardHotSourceDto> getHotSources(List<Long> idxList) {
+        if (idxList.isEmpty()) return new ArrayList<>();
+
+        return jpaQueryFactory.select(hotSourceProjection())
+                .from(board)
+                .where(board.boardIdx.in(idxList))
+                .fetch();
+    }
+
+    /**
+     * 특정 시점 이후 작성된 인기글 점수 계산용 게시글 조회
+     * @param since LocalDateTime 기준 시점
+     * @return List<BoardHotSourceDto>
+     */
+    public List<BoardHotSourceDto> getHotSourcesCreatedAfter(LocalDateTime since) {
+        return jpaQueryFactory.select(hotSourceProjection())
+                .from(board)
+                .where(board.createdDate.goe(since), getNotRemoved(), getNotReported())
+                .fetch();
+    }
+
+    /**
+     * 게시글 버전 조회 (ETag 용)
+     * @param codeIdx Long 게시판 타입
+     * @param idx Long 게시글 idx
+     * @return BoardVersionDto 없으면 null
+     */
+    public BoardVersionDto getBoardVersion(Long codeIdx, Long idx) {
+        return jpaQueryFactory.select(versionProjection())
+                .from(board)
+                .where(getCodeIdx(codeIdx), getBoardIdx(idx), getNotRemoved())
+                .fetchOne();
+    }
+
+    /**
+     * 게시글 목록 한 페이지의 버전 조회 (getSliceOfBoard 와 같은 조건/정렬)
+     * @param codeIdx Long 게시판 타입
+     * @param idx Long 조회 시작 idx
+     * @param size int 조회 갯수
+     * @param keyword String 검색어
+     * @return List<BoardVersionDto>
+     */
+    public List<BoardVersionDto> getSliceOfBoardVersion(Long codeIdx, @Nullable Long idx, int size, @Nullable String keyword) {
+        return jpaQueryFactory.select(versionProjection())
                 .from(board)
                 .where(getCodeIdx(codeIdx), getNotRemoved(), getNotReported(), ltBoardIdx(idx), search(keyword))
                 .orderBy(board.boardIdx.desc())
@@ -77,53 +139,94 @@ public class BoardQueryRepo {
                 .fetch();
     }
 
-// 댓글과 대댓글을 1개씩만 가져오는 문제가 있어 사용하지 않음
-    public BoardResponse getBoard(
+    /**
+     * idx 목록에 해당하는 게시글 버전 조회
+     * @param codeIdx Long 게시판 타입
+     * @param idxList List<Long> 게시글 idx 목록
+     * @return List<BoardVersionDto>
+     */
+    public List<BoardVersionDto> getBoardVersionByIdx(Long codeIdx, List<Long> idxList) {
+        if (idxList.isEmpty()) return new ArrayList<>();
+
+        return jpaQueryFactory.select(versionProjection())
+                .from(board)
+                .where(getCodeIdx(codeIdx), getNotRemoved(), getNotReported(), board.boardIdx.in(idxList))
+                .fetch();
+    }
+
+    /**
+     * 게시글 상세 조회 (댓글 제외)
+     * @param codeIdx Long 게시판 타입
+     * @param idx Long 게시글 idx
+     * @return BoardDetailDto 없으면 null
+     */
+    public BoardDetailDto getBoard(
+            Long codeIdx,
             Long idx
     ) {
-        Map<Long, BoardResponse> result = jpaQueryFactory
+        return jpaQueryFactory.select(new QBoardDetailDto(
+                        board.boardIdx,
+                        board.member.memberIdx,
+                        board.boardTitle,
+                        board.boardContent,
+                        board.likeCount,
+                        board.hitCount,
+                        board.createdDate,
+                        board.modifiedDate
+                ))
                 .from(board)
-//                .leftJoin(reply).on(
-//                        reply.boardIdx.eq(board.boardIdx)
-//                )
-//                .leftJoin(reply.childReplies, childReply)
-//                .on(
-//                        childReply.boardIdx.eq(board.boardIdx)
-//                )
-//                .leftJoin(member).on(board.member.memberIdx.eq(member.memberIdx))
-//                .leftJoin(memberReply).on(reply.member.memberIdx.eq(memberReply.memberIdx))
-//                .leftJoin(memberChildReply).on(childReply.member.memberIdx.eq(memberChildReply.memberIdx))
-                .where(getBoardIdx(idx), getNotRemoved(), getNotReported())
-                .transform(groupBy(board.boardIdx).as(
-                        Projections.constructor(
-                                BoardResponse.class,
-                                board.boardIdx,
-                                board.member.memberNickname,
-                                board.boardTitle,
-                                board.boardContent,
-                                list(
-                                        Projections.constructor(ReplyResponse.class,
-//                                        board.boardIdx,
-                                                reply.replyIdx,
-                                                reply.replyContent
-//                                        reply.member.memberNickname,
-//                                        list(
-//                                                Projections.constructor(ReplyResponse.class,
-////                                                        board.boardIdx,
-//                                                        childReply.replyIdx,
-//                                                        childReply.replyContent,
-//                                                        childReply.member.memberNickname
-//                                                )
-//                                        )
-                                        )
-                                ),
-                                board.createdAt,
-                                board.createdDate,
-                                board.modifiedAt,
-                                board.modifiedDate
-                        )
-                ));
-        return result.get(idx);
+                .where(getCodeIdx(codeIdx), getBoardIdx(idx), getNotRemoved())
+                .fetchOne();
+    }
+
+    private ConstructorExpression<BoardListResponse> boardListProjection() {
+        return Projections.constructor(
+                BoardListResponse.class,
+                board.boardIdx,
+                board.boardTitle,
+                board.boardPreview,
+                board.boardThumbnail,
+                board.member.memberIdx,
+                board.voteCount,
+                board.replyCount,
+                board.likeCount,
+                board.hitCount,
+                board.createdDate,
+                board.modifiedDate
+        );
+    }
+
+    private QBoardSearchDocDto searchDocProjection() {
+        return new QBoardSearchDocDto(
+                board.boardIdx,
+                board.codeIdx,
+                board.boardTitle,
+                board.boardContent,
+                board.member.memberNickname,
+                board.boardIsRemoved,
+                board.boardIsReported
+        );
+    }
+
+    private QBoardHotSourceDto hotSourceProjection() {
+        return new QBoardHotSourceDto(
+                board.boardIdx,
+                board.codeIdx,
+                board.likeCount,
+                board.replyCount,
+                board.hitCount,
+                board.boardIsRemoved,
+                board.boardIsReported,
+                board.createdDate
+        );
+    }
+
+    private QBoardVersionDto versionProjection() {
+        return new QBoardVersionDto(
+                board.boardIdx,
+                board.boardVersion,
+                board.modifiedDate
+        );
     }
 
     private BooleanBuilder getCodeIdx(Long codeIdx) {
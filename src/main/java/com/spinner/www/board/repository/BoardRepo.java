@@ -3,6 +3,9 @@ package com.spinner.www.board.repository;
 import com.spinner.www.board.entity.Board;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,8 +20,36 @@ public interface BoardRepo extends JpaRepository<Board, Long> {
      * @param isRemove int
      * @return Board
      */
-    @EntityGraph(attributePaths = {"member", "replies"})
+    @EntityGraph(attributePaths = {"member"})
     Optional<Board> findByCodeIdxAndBoardIdxAndBoardIsRemoved(Long codeIdx, Long boardIdx, int isRemove);
 
+    /**
+     * 댓글수 증감
+     * @param boardIdx Long
+     * @param delta long 증감값
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.replyCount = b.replyCount + :delta, b.boardVersion = b.boardVersion + 1 WHERE b.boardIdx = :boardIdx")
+    int increaseReplyCount(@Param("boardIdx") Long boardIdx, @Param("delta") long delta);
+
+    /**
+     * 투표수 증감
+     * @param boardIdx Long
+     * @param delta long 증감값
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.voteCount = b.voteCount + :delta, b.boardVersion = b.boardVersion + 1 WHERE b.boardIdx = :boardIdx")
+    int increaseVoteCount(@Param("boardIdx") Long boardIdx, @Param("delta") long delta);
+
+    /**
+     * 게시글 버전 증가 (댓글 수정 등 게시글 상세 응답이 바뀔 때)
+     * @param boardIdx Long
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.boardVersion = b.boardVersion + 1 WHERE b.boardIdx = :boardIdx")
+    int increaseVersion(@Param("boardIdx") Long boardIdx);
 
 }
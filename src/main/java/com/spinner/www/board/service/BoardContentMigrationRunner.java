@@ -0,0 +1,95 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.dto.BoardContentDto;
+import com.spinner.www.board.repository.BoardContentJdbcRepo;
+import com.spinner.www.util.BoardContentUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 게시글 본문 데이터 보정
+ * 기동 시 한 번 실행되며, 처리할 게시글이 없으면 조회 한 번으로 끝난다.
+ * 1. 이스케이프된 이전 형식 본문을 허용 태그만 남긴 HTML로 변환
+ * 2. 미리보기/썸네일 컬럼 추가 이전에 작성된 게시글의 미리보기 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardContentMigrationRunner implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final BoardContentJdbcRepo boardContentJdbcRepo;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrateEscapedContent();
+        fillMissingPreview();
+    }
+
+    /**
+     * 이스케이프된 본문 -> 정제된 HTML
+     */
+    private void migrateEscapedContent() {
+        long lastIdx = 0L;
+        int migrated = 0;
+        List<BoardContentDto> page;
+
+        do {
+            page = boardContentJdbcRepo.findEscaped(lastIdx, PAGE_SIZE);
+            List<Object[]> rows = new ArrayList<>(page.size());
+            for (BoardContentDto board : page) {
+                String content = BoardContentUtils.sanitize(HtmlUtils.htmlUnescape(nullToEmpty(board.getBoardContent())));
+                rows.add(new Object[]{
+                        content,
+                        BoardContentUtils.extractPreview(content),
+                        BoardContentUtils.extractThumbnail(content),
+                        board.getBoardIdx()
+                });
+                lastIdx = board.getBoardIdx();
+            }
+            boardContentJdbcRepo.updateSanitizedAll(rows);
+            migrated += rows.size();
+        } while (page.size() == PAGE_SIZE);
+
+        if (migrated > 0) log.info("게시글 본문 정제 변환 완료 count={}", migrated);
+    }
+
+    /**
+     * 미리보기/썸네일 생성
+     */
+    private void fillMissingPreview() {
+        long lastIdx = 0L;
+        int migrated = 0;
+        List<BoardContentDto> page;
+
+        do {
+            page = boardContentJdbcRepo.findWithoutPreview(lastIdx, PAGE_SIZE);
+            List<Object[]> rows = new ArrayList<>(page.size());
+            for (BoardContentDto board : page) {
+                String content = nullToEmpty(board.getBoardContent());
+                rows.add(new Object[]{
+                        BoardContentUtils.extractPreview(content),
+                        BoardContentUtils.extractThumbnail(content),
+                        board.getBoardIdx()
+                });
+                lastIdx = board.getBoardIdx();
+            }
+            boardContentJdbcRepo.updatePreviewAll(rows);
+            migrated += rows.size();
+        } while (page.size() == PAGE_SIZE);
+
+        if (migrated > 0) log.info("게시글 미리보기 생성 완료 count={}", migrated);
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
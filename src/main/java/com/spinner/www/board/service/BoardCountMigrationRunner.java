@@ -0,0 +1,40 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.repository.BoardCountJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 컬럼 추가 이전에 작성된 게시글의 댓글/좋아요/투표수 채우기
+ * 인기글 순위 초기화(ApplicationReadyEvent)보다 먼저 실행되어, 기존 게시글이 0개로 보이거나 삭제 시 음수가 되지 않게 한다.
+ * 채울 게시글이 없으면 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCountMigrationRunner implements ApplicationRunner {
+
+    private final BoardCountJdbcRepo boardCountJdbcRepo;
+
+    @Value("${board.count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!boardCountJdbcRepo.existsMissingCount()) return;
+
+        long maxIdx = boardCountJdbcRepo.getMaxBoardIdx();
+        int migrated = 0;
+
+        for (long fromIdx = 0; fromIdx < maxIdx; fromIdx += chunkSize) {
+            long toIdx = Math.min(fromIdx + chunkSize, maxIdx);
+            migrated += boardCountJdbcRepo.reconcile(fromIdx, toIdx);
+        }
+
+        log.info("게시글 카운터 채우기 완료 count={}", migrated);
+    }
+}
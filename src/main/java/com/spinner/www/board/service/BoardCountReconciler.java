@@ -0,0 +1,37 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.repository.BoardCountJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCountReconciler {
+
+    private final BoardCountJdbcRepo boardCountJdbcRepo;
+
+    @Value("${board.count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 게시글 댓글/좋아요/투표수, 댓글별 대댓글수 보정
+     * 서비스에서 같은 트랜잭션으로 증감하지만, 직접 DB 수정 등으로 어긋난 값을 구간 단위로 맞춘다.
+     */
+    @Scheduled(cron = "${board.count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long maxIdx = boardCountJdbcRepo.getMaxBoardIdx();
+        int changed = 0;
+
+        for (long fromIdx = 0; fromIdx < maxIdx; fromIdx += chunkSize) {
+            long toIdx = Math.min(fromIdx + chunkSize, maxIdx);
+            changed += boardCountJdbcRepo.reconcile(fromIdx, toIdx);
+            boardCountJdbcRepo.reconcileReplyChildCount(fromIdx, toIdx);
+        }
+
+        log.info("게시글 카운터 보정 완료 maxIdx={}, changed={}", maxIdx, changed);
+    }
+}
@@ -0,0 +1,38 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.dto.BoardHotHitDto;
+
+import java.util.List;
+
+public interface BoardHotRankService {
+
+    /**
+     * 인기글 점수 재계산 대상 등록 (좋아요/댓글/조회/작성 시)
+     * 트랜잭션 안이면 커밋 이후 등록
+     * @param boardIdx Long 게시글 idx
+     */
+    void markDirty(Long boardIdx);
+
+    /**
+     * 인기글 순위에서 제거
+     * @param codeIdx Long 게시판 타입
+     * @param boardIdx Long 게시글 idx
+     */
+    void remove(Long codeIdx, Long boardIdx);
+
+    /**
+     * 인기글 조회 (점수 내림차순, (점수, idx) 커서 페이징)
+     * 순위가 아직 준비되지 않았으면 null 반환
+     * @param codeIdx Long 게시판 타입
+     * @param score Double 이전 페이지 마지막 게시글 인기 점수
+     * @param idx Long 이전 페이지 마지막 게시글 idx
+     * @param size int 조회 갯수
+     * @return List<BoardHotHitDto> 게시글 idx + 인기 점수 목록
+     */
+    List<BoardHotHitDto> getHotHits(Long codeIdx, Double score, Long idx, int size);
+
+    /**
+     * 재계산 대상 게시글만 점수 갱신
+     */
+    void refresh();
+}
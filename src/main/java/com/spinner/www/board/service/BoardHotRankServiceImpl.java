@@ -0,0 +1,196 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.dto.BoardHotHitDto;
+import com.spinner.www.board.dto.BoardHotSourceDto;
+import com.spinner.www.board.repository.BoardHotRankRepo;
+import com.spinner.www.board.repository.BoardQueryRepo;
+import com.spinner.www.common.service.ViewCountService;
+import com.spinner.www.constants.ViewCountType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/댓글/조회수와 작성 시각으로 인기글 점수 관리
+ * 점수 = log10(가중 반응 수) + (작성 시각 / decaySeconds)
+ * 시간 감쇠를 "나중에 쓴 글일수록 큰 기준점"으로 바꿔 두었기 때문에 반응이 없는 글의 상대 순위는 변하지 않는다.
+ * 따라서 주기 작업은 반응이 생긴 글만 다시 계산하면 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardHotRankServiceImpl implements BoardHotRankService {
+
+    // 2024-01-01T00:00:00Z, 점수 기준점
+    private static final long SCORE_EPOCH_SECOND = 1704067200L;
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+    private static final int NOT_REMOVED = 0;
+    private static final int NOT_REPORTED = 0;
+
+    private final BoardQueryRepo boardQueryRepo;
+    private final BoardHotRankRepo boardHotRankRepo;
+    private final ViewCountService viewCountService;
+
+    @Value("${board.hot.like-weight:3}")
+    private double likeWeight;
+
+    @Value("${board.hot.reply-weight:2}")
+    private double replyWeight;
+
+    @Value("${board.hot.view-weight:0.1}")
+    private double viewWeight;
+
+    @Value("${board.hot.decay-seconds:45000}")
+    private double decaySeconds;
+
+    @Value("${board.hot.max-size:1000}")
+    private int maxSize;
+
+    @Value("${board.hot.seed-days:7}")
+    private int seedDays;
+
+    private final Set<Long> dirtyIdx = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    /**
+     * 서버 기동 시 최근 게시글로 순위 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            List<BoardHotSourceDto> sources = boardQueryRepo.getHotSourcesCreatedAfter(LocalDateTime.now().minusDays(seedDays));
+            apply(sources);
+            ready = true;
+            log.info("인기글 순위 초기화 boards={}", sources.size());
+        } catch (RuntimeException e) {
+            log.error("인기글 순위 초기화 실패, 최신순으로 제공", e);
+        }
+    }
+
+    /**
+     * 인기글 점수 재계산 대상 등록
+     * @param boardIdx Long 게시글 idx
+     */
+    @Override
+    public void markDirty(Long boardIdx) {
+        if (boardIdx == null) return;
+
+        // 커밋 전에 읽으면 바뀌기 전 카운트로 계산되므로 커밋 이후 등록
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyIdx.add(boardIdx);
+                }
+            });
+            return;
+        }
+        dirtyIdx.add(boardIdx);
+    }
+
+    /**
+     * 인기글 순위에서 제거
+     * @param codeIdx Long 게시판 타입
+     * @param boardIdx Long 게시글 idx
+     */
+    @Override
+    public void remove(Long codeIdx, Long boardIdx) {
+        dirtyIdx.remove(boardIdx);
+        boardHotRankRepo.removeAll(codeIdx, List.of(boardIdx));
+    }
+
+    /**
+     * 인기글 조회
+     * @param codeIdx Long 게시판 타입
+     * @param score Double 이전 페이지 마지막 게시글 인기 점수
+     * @param idx Long 이전 페이지 마지막 게시글 idx
+     * @param size int 조회 갯수
+     * @return List<BoardHotHitDto> 게시글 idx + 인기 점수 목록, 준비되지 않았으면 null
+     */
+    @Override
+    public List<BoardHotHitDto> getHotHits(Long codeIdx, Double score, Long idx, int size) {
+        if (!ready || codeIdx == null) return null;
+        return boardHotRankRepo.getPage(codeIdx, score, idx, size);
+    }
+
+    /**
+     * 재계산 대상 게시글만 점수 갱신 (변경된 글 수에 비례)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${board.hot.refresh-interval-ms:10000}")
+    public void refresh() {
+        if (!ready || dirtyIdx.isEmpty()) return;
+
+        List<Long> targets = new ArrayList<>();
+        Iterator<Long> iterator = dirtyIdx.iterator();
+        while (iterator.hasNext()) {
+            targets.add(iterator.next());
+            iterator.remove();
+        }
+
+        for (int from = 0; from < targets.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = targets.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, targets.size()));
+            try {
+                apply(boardQueryRepo.getHotSources(chunk));
+            } catch (RuntimeException e) {
+                log.error("인기글 점수 갱신 실패 size={}", chunk.size(), e);
+                // 다음 주기에 다시 계산
+                dirtyIdx.addAll(chunk);
+            }
+        }
+    }
+
+    /**
+     * 게시판 타입별로 점수 저장, 삭제/신고된 글은 제거
+     * @param sources List<BoardHotSourceDto>
+     */
+    private void apply(List<BoardHotSourceDto> sources) {
+        Map<Long, Map<Long, Double>> scoreMapByCode = new HashMap<>();
+        Map<Long, List<Long>> removedByCode = new HashMap<>();
+
+        for (BoardHotSourceDto source : sources) {
+            if (source.getBoardIsRemoved() != NOT_REMOVED || source.getBoardIsReported() != NOT_REPORTED) {
+                removedByCode.computeIfAbsent(source.getCodeIdx(), key -> new ArrayList<>()).add(source.getBoardIdx());
+                continue;
+            }
+            scoreMapByCode.computeIfAbsent(source.getCodeIdx(), key -> new HashMap<>())
+                    .put(source.getBoardIdx(), getScore(source));
+        }
+
+        removedByCode.forEach(boardHotRankRepo::removeAll);
+        scoreMapByCode.forEach((codeIdx, scoreMap) -> {
+            boardHotRankRepo.putAll(codeIdx, scoreMap);
+            boardHotRankRepo.trim(codeIdx, maxSize);
+        });
+    }
+
+    /**
+     * 인기글 점수 계산
+     * @param source BoardHotSourceDto
+     * @return double 점수
+     */
+    private double getScore(BoardHotSourceDto source) {
+        // DB에 아직 반영되지 않은 조회수 포함
+        long hitCount = viewCountService.getViewCount(ViewCountType.BOARD, source.getBoardIdx(), source.getHitCount());
+        double points = source.getLikeCount() * likeWeight
+                + source.getReplyCount() * replyWeight
+                + hitCount * viewWeight;
+
+        long createdSecond = source.getCreatedDate() == null
+                ? SCORE_EPOCH_SECOND
+                : source.getCreatedDate().atZone(ZoneId.systemDefault()).toEpochSecond();
+
+        return Math.log10(Math.max(points, 1)) + (createdSecond - SCORE_EPOCH_SECOND) / decaySeconds;
+    }
+}
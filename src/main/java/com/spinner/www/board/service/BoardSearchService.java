@@ -0,0 +1,46 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.dto.BoardSearchHitDto;
+import com.spinner.www.board.entity.Board;
+import com.spinner.www.common.io.CommonResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public interface BoardSearchService {
+
+    /**
+     * 게시글 색인 추가/갱신 (트랜잭션 안이면 커밋 이후 반영)
+     * @param board Board
+     */
+    void index(Board board);
+
+    /**
+     * 게시글 색인 제거 (트랜잭션 안이면 커밋 이후 반영)
+     * @param boardIdx Long 게시글 idx
+     */
+    void remove(Long boardIdx);
+
+    /**
+     * 검색어에 해당하는 게시글 조회 (점수순 정렬, (점수, idx) 커서 페이징)
+     * 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어면 null 반환
+     * @param codeIdx Long 게시판 타입
+     * @param keyword String 검색어
+     * @param score Long 이전 페이지 마지막 게시글 점수 (없으면 첫 페이지)
+     * @param idx Long 이전 페이지 마지막 게시글 idx
+     * @param size int 조회 갯수
+     * @return List<BoardSearchHitDto> 게시글 idx, 점수 목록
+     */
+    List<BoardSearchHitDto> search(Long codeIdx, String keyword, Long score, Long idx, int size);
+
+    /**
+     * DB 기준 색인 재생성 (어드민 전용)
+     * @return ResponseEntity<CommonResponse> 색인된 게시글 수
+     */
+    ResponseEntity<CommonResponse> rebuild();
+
+    /**
+     * 색인 스냅샷 파일 저장
+     */
+    void saveSnapshot();
+}
@@ -0,0 +1,402 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.dto.BoardSearchDocDto;
+import com.spinner.www.board.dto.BoardSearchHitDto;
+import com.spinner.www.board.entity.Board;
+import com.spinner.www.board.repository.BoardQueryRepo;
+import com.spinner.www.common.io.CommonResponse;
+import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.member.constants.RoleName;
+import com.spinner.www.member.dto.SessionInfo;
+import com.spinner.www.member.repository.MemberRepo;
+import com.spinner.www.util.BoardContentUtils;
+import com.spinner.www.util.NGramTokenizer;
+import com.spinner.www.util.ResponseVOUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardSearchServiceImpl implements BoardSearchService {
+
+    private static final int SNAPSHOT_MAGIC = 0x42534958;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int NICKNAME_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    // 스냅샷 저장 시각과 DB 시각의 오차를 고려한 여유 시간
+    private static final long CATCH_UP_MARGIN_SECONDS = 60;
+
+    private final BoardQueryRepo boardQueryRepo;
+    private final SessionInfo sessionInfo;
+    private final MemberRepo memberRepo;
+
+    @Value("${board.search.snapshot-path:/tmp/spinner/board-search.idx}")
+    private String snapshotPath;
+
+    private volatile IndexState state = new IndexState();
+    private volatile boolean ready = false;
+    private volatile boolean dirty = false;
+
+    /**
+     * 서버 기동 시 스냅샷을 읽고 이후 변경분만 반영, 스냅샷이 없으면 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            Instant savedAt = loadSnapshot();
+            if (savedAt != null) {
+                catchUp(state, savedAt);
+                ready = true;
+                log.info("게시글 검색 색인 스냅샷 로드 docs={}", state.docs.size());
+                return;
+            }
+        } catch (IOException e) {
+            log.warn("게시글 검색 색인 스냅샷 로드 실패, 전체 색인으로 진행", e);
+        }
+        rebuildIndex();
+    }
+
+    /**
+     * 게시글 색인 추가/갱신 (트랜잭션 안이면 커밋 이후 반영, 롤백되면 반영하지 않음)
+     * @param board Board
+     */
+    @Override
+    public void index(Board board) {
+        long boardIdx = board.getBoardIdx();
+        if (board.getBoardIsRemoved() != 0 || board.getBoardIsReported() != 0) {
+            afterCommit(() -> removeNow(boardIdx));
+            return;
+        }
+        // 토큰은 엔티티를 읽을 수 있는 트랜잭션 안에서 만든다
+        long codeIdx = board.getCodeIdx();
+        Map<String, Integer> grams = toGrams(board.getBoardTitle(), board.getBoardContent(), board.getMember().getMemberNickname());
+        afterCommit(() -> {
+            state.put(boardIdx, codeIdx, grams);
+            dirty = true;
+        });
+    }
+
+    /**
+     * 게시글 색인 제거 (트랜잭션 안이면 커밋 이후 반영)
+     * @param boardIdx Long 게시글 idx
+     */
+    @Override
+    public void remove(Long boardIdx) {
+        afterCommit(() -> removeNow(boardIdx));
+    }
+
+    private void removeNow(long boardIdx) {
+        state.remove(boardIdx);
+        dirty = true;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 검색어에 해당하는 게시글 조회 (점수 내림차순, 같은 점수는 idx 내림차순)
+     * 커서는 이전 페이지 마지막 글의 (점수, idx) 이므로 그 글이 삭제되거나 점수가 바뀌어도 위치를 잃지 않는다.
+     * @param codeIdx Long 게시판 타입
+     * @param keyword String 검색어
+     * @param score Long 이전 페이지 마지막 게시글 점수 (없으면 첫 페이지)
+     * @param idx Long 이전 페이지 마지막 게시글 idx
+     * @param size int 조회 갯수
+     * @return List<BoardSearchHitDto> 게시글 idx, 점수 목록, 색인으로 처리할 수 없으면 null
+     */
+    @Override
+    public List<BoardSearchHitDto> search(Long codeIdx, String keyword, Long score, Long idx, int size) {
+        if (!ready || codeIdx == null) return null;
+
+        Set<String> queryGrams = NGramTokenizer.queryGrams(keyword);
+        if (queryGrams == null) return null;
+
+        List<ScoredDoc> ranked = state.search(codeIdx, queryGrams);
+
+        List<BoardSearchHitDto> result = new ArrayList<>(size);
+        for (ScoredDoc doc : ranked) {
+            if (result.size() >= size) break;
+            if (score != null && !isAfter(doc, score, idx == null ? Long.MAX_VALUE : idx)) continue;
+            result.add(new BoardSearchHitDto(doc.boardIdx, doc.score));
+        }
+        return result;
+    }
+
+    /**
+     * 정렬 순서상 커서 다음에 오는지 여부
+     */
+    private boolean isAfter(ScoredDoc doc, long score, long idx) {
+        return doc.score < score || (doc.score == score && doc.boardIdx < idx);
+    }
+
+    /**
+     * DB 기준 색인 재생성 (어드민 전용)
+     * @return ResponseEntity<CommonResponse> 색인된 게시글 수
+     */
+    @Override
+    public ResponseEntity<CommonResponse> rebuild() {
+        Long memberIdx = sessionInfo.getMemberIdx();
+        if (Objects.isNull(memberIdx))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
+
+        if (!memberRepo.existsByMemberIdxAndMemberRoleRoleName(memberIdx, RoleName.ADMIN))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
+
+        int size = rebuildIndex();
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(size), HttpStatus.OK);
+    }
+
+    /**
+     * 색인 스냅샷 파일 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${board.search.snapshot-interval-ms:600000}")
+    public void saveSnapshot() {
+        if (!ready || !dirty) return;
+        dirty = false;
+
+        IndexState current = state;
+        Path target = Paths.get(snapshotPath);
+        try {
+            if (target.getParent() != null) Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(System.currentTimeMillis());
+
+                Map<Long, Doc> docs = new HashMap<>(current.docs);
+                out.writeInt(docs.size());
+                for (Map.Entry<Long, Doc> entry : docs.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeLong(entry.getValue().codeIdx);
+                    out.writeInt(entry.getValue().grams.size());
+                    for (Map.Entry<String, Integer> gram : entry.getValue().grams.entrySet()) {
+                        out.writeUTF(gram.getKey());
+                        out.writeInt(gram.getValue());
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("게시글 검색 색인 스냅샷 저장 실패 path={}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 종료 전 스냅샷 저장
+     */
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+
+    /**
+     * DB 전체를 읽어 새 색인을 만든 뒤 교체
+     * 재생성 중 들어온 변경은 교체 직후 수정일 기준으로 다시 반영한다.
+     * @return int 색인된 게시글 수
+     */
+    private synchronized int rebuildIndex() {
+        Instant startedAt = Instant.now();
+        IndexState rebuilt = new IndexState();
+
+        long lastIdx = 0L;
+        List<BoardSearchDocDto> page;
+        do {
+            page = boardQueryRepo.getSearchDocs(lastIdx, REBUILD_PAGE_SIZE);
+            for (BoardSearchDocDto doc : page) {
+                apply(rebuilt, doc);
+                lastIdx = doc.getBoardIdx();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        state = rebuilt;
+        catchUp(rebuilt, startedAt);
+        ready = true;
+        dirty = true;
+        saveSnapshot();
+
+        log.info("게시글 검색 색인 재생성 docs={}", rebuilt.docs.size());
+        return rebuilt.docs.size();
+    }
+
+    /**
+     * 기준 시점 이후 수정된 게시글 반영
+     * @param target IndexState 반영할 색인
+     * @param since Instant 기준 시점
+     */
+    private void catchUp(IndexState target, Instant since) {
+        LocalDateTime from = LocalDateTime.ofInstant(since.minusSeconds(CATCH_UP_MARGIN_SECONDS), ZoneId.systemDefault());
+        for (BoardSearchDocDto doc : boardQueryRepo.getSearchDocsModifiedAfter(from)) {
+            apply(target, doc);
+        }
+    }
+
+    private void apply(IndexState target, BoardSearchDocDto doc) {
+        if (doc.getBoardIsRemoved() != 0 || doc.getBoardIsReported() != 0) {
+            target.remove(doc.getBoardIdx());
+            return;
+        }
+        target.put(doc.getBoardIdx(), doc.getCodeIdx(),
+                toGrams(doc.getBoardTitle(), doc.getBoardContent(), doc.getMemberNickname()));
+    }
+
+    /**
+     * 스냅샷 파일 로드
+     * @return Instant 스냅샷 저장 시각, 파일이 없으면 null
+     */
+    private Instant loadSnapshot() throws IOException {
+        Path target = Paths.get(snapshotPath);
+        if (!Files.exists(target)) return null;
+
+        IndexState loaded = new IndexState();
+        Instant savedAt;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(target))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) return null;
+            savedAt = Instant.ofEpochMilli(in.readLong());
+
+            int docCount = in.readInt();
+            for (int i = 0; i < docCount; i++) {
+                long boardIdx = in.readLong();
+                long codeIdx = in.readLong();
+                int gramCount = in.readInt();
+                Map<String, Integer> grams = new HashMap<>(gramCount * 2);
+                for (int j = 0; j < gramCount; j++) {
+                    grams.put(in.readUTF(), in.readInt());
+                }
+                loaded.put(boardIdx, codeIdx, grams);
+            }
+        }
+        state = loaded;
+        return savedAt;
+    }
+
+    /**
+     * 제목/내용/닉네임 토큰 생성 (내용은 HTML 태그 제거 후 색인)
+     */
+    private Map<String, Integer> toGrams(String title, String content, String nickname) {
+        Map<String, Integer> grams = new HashMap<>();
+        NGramTokenizer.addIndexGrams(title, TITLE_WEIGHT, grams);
+        NGramTokenizer.addIndexGrams(nickname, NICKNAME_WEIGHT, grams);
+        NGramTokenizer.addIndexGrams(BoardContentUtils.extractText(content), CONTENT_WEIGHT, grams);
+        return grams;
+    }
+
+    /**
+     * 역색인 (토큰 -> 게시글 idx -> 가중치)
+     * 쓰기는 게시글 단위로 직렬화하고 읽기는 잠금 없이 처리한다.
+     */
+    private static class IndexState {
+        private final ConcurrentHashMap<Long, Doc> docs = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+        synchronized void put(long boardIdx, long codeIdx, Map<String, Integer> grams) {
+            remove(boardIdx);
+            docs.put(boardIdx, new Doc(codeIdx, grams));
+            grams.forEach((gram, weight) ->
+                    postings.computeIfAbsent(gram, key -> new ConcurrentHashMap<>()).put(boardIdx, weight));
+        }
+
+        synchronized void remove(long boardIdx) {
+            Doc doc = docs.remove(boardIdx);
+            if (doc == null) return;
+            doc.grams.keySet().forEach(gram -> postings.computeIfPresent(gram, (key, posting) -> {
+                posting.remove(boardIdx);
+                return posting.isEmpty() ? null : posting;
+            }));
+        }
+
+        List<ScoredDoc> search(Long codeIdx, Set<String> queryGrams) {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) return new ArrayList<>();
+                lists.add(posting);
+            }
+            // 가장 짧은 posting 기준으로 교집합 계산
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            List<ScoredDoc> result = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : lists.get(0).entrySet()) {
+                long boardIdx = entry.getKey();
+                Doc doc = docs.get(boardIdx);
+                if (doc == null || doc.codeIdx != codeIdx) continue;
+
+                long score = entry.getValue();
+                boolean matched = true;
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer weight = lists.get(i).get(boardIdx);
+                    if (weight == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += weight;
+                }
+                if (matched) result.add(new ScoredDoc(boardIdx, score));
+            }
+
+            result.sort(Comparator.comparingLong((ScoredDoc doc) -> doc.score).reversed()
+                    .thenComparing(Comparator.comparingLong((ScoredDoc doc) -> doc.boardIdx).reversed()));
+            return result;
+        }
+    }
+
+    private static class Doc {
+        private final long codeIdx;
+        private final Map<String, Integer> grams;
+
+        Doc(long codeIdx, Map<String, Integer> grams) {
+            this.codeIdx = codeIdx;
+            this.grams = grams;
+        }
+    }
+
+    private static class ScoredDoc {
+        private final long boardIdx;
+        private final long score;
+
+        ScoredDoc(long boardIdx, long score) {
+            this.boardIdx = boardIdx;
+            this.score = score;
+        }
+    }
+}
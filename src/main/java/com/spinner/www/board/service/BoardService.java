@@ -34,19 +34,24 @@ public interface BoardService {
      * 게시글 조회
      * @param boardType String 게시판 타입
      * @param boardIdx Long 게시글 idx
+     * @param ifNoneMatch String If-None-Match 헤더
      * @return ResponseEntity<CommonResponse> 게시글 상세 정보
      */
-    ResponseEntity<CommonResponse> findByBoardInfo(String boardType, Long boardIdx);
+    ResponseEntity<CommonResponse> findByBoardInfo(String boardType, Long boardIdx, String ifNoneMatch);
 
     /**
      * 게시글 목록 조회
      * @param boardType String 게시판 타입
      * @param idx Long 조회 시작 idx
+     * @param score Long 검색 시 이전 페이지 마지막 게시글 점수
+     * @param hotScore Double 인기순일 때 이전 페이지 마지막 게시글 인기 점수
      * @param size int 조회할 목록 갯수
      * @param keyword String 조회할 키워드
+     * @param sort String 정렬 (latest: 최신순, hot: 인기순)
+     * @param ifNoneMatch String If-None-Match 헤더
      * @return ResponseEntity<CommonResponse> 게시글 목록
      */
-    ResponseEntity<CommonResponse> getSliceOfBoard(String boardType, Long idx, int size, String keyword);
+    ResponseEntity<CommonResponse> getSliceOfBoard(String boardType, Long idx, Long score, Double hotScore, int size, String keyword, String sort, String ifNoneMatch);
 
     /**
      * 게시글 수정
@@ -1,12 +1,23 @@
 package com.spinner.www.board.service;
 
 import com.spinner.www.board.constants.CommonBoardCode;
+import com.spinner.www.board.dto.BoardDetailDto;
+import com.spinner.www.board.dto.BoardHotHitDto;
+import com.spinner.www.board.dto.BoardSearchHitDto;
+import com.spinner.www.board.dto.BoardVersionDto;
 import com.spinner.www.common.io.CommonResponse;
+import com.spinner.www.common.service.ViewCountService;
+import com.spinner.www.constants.ViewCountType;
 import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.constants.LikeTargetType;
 import com.spinner.www.file.service.FileService;
+import com.spinner.www.like.repository.LikeQueryRepo;
+import com.spinner.www.like.service.LikeBitmapService;
+import com.spinner.www.like.service.LikeBufferService;
 import com.spinner.www.like.service.LikeService;
 import com.spinner.www.member.dto.SessionInfo;
 import com.spinner.www.member.entity.Member;
+import com.spinner.www.member.service.MemberProfileCache;
 import com.spinner.www.member.service.MemberService;
 import com.spinner.www.board.entity.Board;
 import com.spinner.www.board.io.BoardCreateRequest;
@@ -15,33 +26,50 @@ import com.spinner.www.board.io.BoardResponse;
 import com.spinner.www.board.io.BoardUpdateRequest;
 import com.spinner.www.board.repository.BoardQueryRepo;
 import com.spinner.www.board.repository.BoardRepo;
+import com.spinner.www.reply.dto.ReplyRowDto;
 import com.spinner.www.reply.io.ReplyResponse;
+import com.spinner.www.reply.repository.ReplyQueryRepo;
+import com.spinner.www.util.BoardContentUtils;
+import com.spinner.www.util.ETagUtils;
 import com.spinner.www.util.ResponseVOUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class BoardServiceImpl implements BoardService {
 
+    private static final String SORT_HOT = "hot";
+
     private final SessionInfo sessionInfo;
     private final BoardRepo boardRepo;
     private final BoardQueryRepo boardQueryRepo;
+    private final ReplyQueryRepo replyQueryRepo;
+    private final LikeQueryRepo likeQueryRepo;
     private final MemberService memberService;
+    private final MemberProfileCache memberProfileCache;
     private final FileService fileService;
     private final LikeService likeService;
+    private final LikeBitmapService likeBitmapService;
+    private final LikeBufferService likeBufferService;
+    private final ViewCountService viewCountService;
+    private final BoardSearchService boardSearchService;
+    private final BoardHotRankService boardHotRankService;
 //    private final BoardMapper boardMapper;
 
     /**
@@ -66,7 +94,7 @@ public class BoardServiceImpl implements BoardService {
         try {
 
             Map<String, String> fileMap = uploadBoardFiles(files);
-            updateSrcContent = updateMediaSrc(fileMap, boardRequest.getContent());
+            updateSrcContent = BoardContentUtils.sanitize(updateMediaSrc(fileMap, boardRequest.getContent()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -76,15 +104,20 @@ public class BoardServiceImpl implements BoardService {
                 .codeIdx(codeIdx)
                 .member(member)
                 .boardTitle(boardRequest.getTitle())
-                .boardContent(org.springframework.web.util.HtmlUtils.htmlEscape(updateSrcContent))
+                .boardContent(updateSrcContent)
+                .boardContentFormat(BoardContentUtils.FORMAT_SANITIZED)
+                .boardPreview(BoardContentUtils.extractPreview(updateSrcContent))
+                .boardThumbnail(BoardContentUtils.extractThumbnail(updateSrcContent))
                 .build();
 
         boardRepo.save(board);
+        boardSearchService.index(board);
+        boardHotRankService.markDirty(board.getBoardIdx());
         BoardResponse response = BoardResponse.builder()
                 .nickname(member.getMemberNickname())
                 .idx(board.getBoardIdx())
                 .title(board.getBoardTitle())
-                .content(org.springframework.web.util.HtmlUtils.htmlUnescape(board.getBoardContent()))
+                .content(board.getBoardContent())
                 .hitCount(board.getHitCount())
                 .createdDate(board.getCreatedDate())
                 .modifiedDate(board.getModifiedDate())
@@ -108,47 +141,137 @@ public class BoardServiceImpl implements BoardService {
 
     /**
      * 게시글 조회
+     * 게시글 버전과 로그인 유저로 ETag를 만들고, If-None-Match가 일치하면 댓글/좋아요 조회 없이 304 반환
+     * (조회수는 ETag에 포함하지 않으므로 304 응답에서는 이전 조회수가 보일 수 있음)
      *
      * @param boardType String 게시판 타입
      * @param boardIdx  Long 게시글 idx
+     * @param ifNoneMatch String If-None-Match 헤더
      * @return ResponseEntity<CommonResponse> 게시글 상세 정보
      */
     @Override
-    @Transactional
-    public ResponseEntity<CommonResponse> findByBoardInfo(String boardType, Long boardIdx) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<CommonResponse> findByBoardInfo(String boardType, Long boardIdx, String ifNoneMatch) {
         Long codeIdx = CommonBoardCode.getCode(boardType);
-        Board board = findByBoardIdx(codeIdx, boardIdx);
+        BoardVersionDto version = boardQueryRepo.getBoardVersion(codeIdx, boardIdx);
 
-        if (board == null)
+        if (version == null)
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
 
-        board.increaseHitCount();
-        BoardResponse response = buildBoardResponse(board);
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
+        viewCountService.increase(ViewCountType.BOARD, boardIdx);
+        boardHotRankService.markDirty(boardIdx);
+
+        // 좋아요 여부가 유저마다 다르므로 유저 idx 포함, DB에 반영 전인 좋아요 토글은 토글 순번으로 구분
+        String eTag = ETagUtils.of(boardIdx + ":" + version.getBoardVersion() + ":" + version.getModifiedDate() + ":" + sessionInfo.getMemberIdx()
+                + ":" + likeBufferService.getPendingStamp(boardIdx));
+        if (ETagUtils.matches(ifNoneMatch, eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache().cachePrivate()).build();
+
+        BoardResponse response = buildBoardResponse(codeIdx, boardIdx);
+        if (response == null)
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ResponseVOUtils.getSuccessResponse(response));
     }
 
 
     /**
      * 게시글 목록 조회
+     * 페이지에 포함될 게시글의 버전 목록으로 ETag를 만들고, If-None-Match가 일치하면 본문 조회 없이 304 반환
      *
      * @param boardType     String 게시판 타입
      * @param idx Long 조회 시작 idx
+     * @param score Long 검색 시 이전 페이지 마지막 게시글 점수
+     * @param hotScore Double 인기순일 때 이전 페이지 마지막 게시글 인기 점수
      * @param size int 조회할 목록 갯수
      * @param keyword String 조회할 키워드
+     * @param sort String 정렬 (latest: 최신순, hot: 인기순)
+     * @param ifNoneMatch String If-None-Match 헤더
      * @return ResponseEntity<CommonResponse> 게시글 목록
      */
     @Override
-    public ResponseEntity<CommonResponse> getSliceOfBoard(String boardType, Long idx, int size, String keyword) {
+    public ResponseEntity<CommonResponse> getSliceOfBoard(String boardType, Long idx, Long score, Double hotScore, int size, String keyword, String sort, String ifNoneMatch) {
         Long codeIdx = CommonBoardCode.getCode(boardType);
-        List<BoardListResponse> list = this.boardQueryRepo.getSliceOfBoard(codeIdx,
-                                                                            idx,
-                                                                            size,
-                                                                            keyword);
 
-        if(!list.isEmpty())
-            list.forEach(result -> result.setContent(org.springframework.web.util.HtmlUtils.htmlUnescape(result.getContent())));
+        // 검색어가 있으면 검색 색인에서, 인기순이면 인기글 순위에서 해당 페이지 idx만 찾아 조회
+        // 색인/순위로 처리할 수 없으면 DB에서 최신순 조회
+        List<Long> pagedIdx = null;
+        Map<Long, Long> scoreMap = Map.of();
+        Map<Long, Double> hotScoreMap = Map.of();
+        if (StringUtils.hasText(keyword)) {
+            List<BoardSearchHitDto> hits = boardSearchService.search(codeIdx, keyword, score, idx, size);
+            if (Objects.nonNull(hits)) {
+                pagedIdx = hits.stream().map(BoardSearchHitDto::getBoardIdx).toList();
+                scoreMap = hits.stream().collect(Collectors.toMap(BoardSearchHitDto::getBoardIdx, BoardSearchHitDto::getScore));
+            }
+        } else if (SORT_HOT.equals(sort)) {
+            List<BoardHotHitDto> hits = boardHotRankService.getHotHits(codeIdx, hotScore, idx, size);
+            if (Objects.nonNull(hits)) {
+                pagedIdx = hits.stream().map(BoardHotHitDto::getBoardIdx).toList();
+                hotScoreMap = hits.stream().collect(Collectors.toMap(BoardHotHitDto::getBoardIdx, BoardHotHitDto::getScore));
+            }
+        }
 
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(list), HttpStatus.OK);
+        List<BoardVersionDto> versions;
+        if (Objects.nonNull(pagedIdx)) {
+            versions = this.boardQueryRepo.getBoardVersionByIdx(codeIdx, pagedIdx);
+        } else {
+            versions = this.boardQueryRepo.getSliceOfBoardVersion(codeIdx, idx, size, keyword);
+            pagedIdx = versions.stream().map(BoardVersionDto::getBoardIdx).toList();
+        }
+
+        // 목록에 로그인 유저 좋아요 여부가 포함되므로 회원 idx 를 버전에 포함 (공유 캐시에 저장되지 않도록 private)
+        Long memberIdx = sessionInfo.getMemberIdx();
+        // 검색/인기순이면 페이지 순서대로 점수도 포함 (응답에 점수가 들어가므로)
+        String eTag = ETagUtils.of(getListVersion(codeIdx, pagedIdx, versions) + "|" + pagedIdx.stream().map(scoreMap::get).toList()
+                + "|" + pagedIdx.stream().map(hotScoreMap::get).toList()
+                + "|" + pagedIdx.stream().map(likeBufferService::getPendingStamp).toList() + "|" + memberIdx);
+        if (ETagUtils.matches(ifNoneMatch, eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache().cachePrivate()).build();
+
+        List<BoardListResponse> list = this.boardQueryRepo.getSliceOfBoardByIdx(codeIdx, pagedIdx);
+        Set<Long> likedIdx = likeBitmapService.getLikedIdx(LikeTargetType.BOARD, pagedIdx, memberIdx);
+        Map<Long, Long> finalScoreMap = scoreMap;
+        Map<Long, Double> finalHotScoreMap = hotScoreMap;
+        Map<Long, Long> likeDeltaMap = likeBufferService.getPendingDeltas(LikeTargetType.BOARD, pagedIdx);
+        Map<Long, String> nicknameMap = memberProfileCache.getNicknames(list.stream().map(BoardListResponse::getMemberIdx).toList());
+        list.forEach(result -> {
+            result.setNickName(nicknameMap.get(result.getMemberIdx()));
+            result.setHitCount(viewCountService.getViewCount(ViewCountType.BOARD, result.getIdx(), result.getHitCount()));
+            result.setLiked(likedIdx.contains(result.getIdx()));
+            result.setLikeCount(Objects.requireNonNullElse(result.getLikeCount(), 0L) + likeDeltaMap.getOrDefault(result.getIdx(), 0L));
+            result.setScore(finalScoreMap.get(result.getIdx()));
+            result.setHotScore(finalHotScoreMap.get(result.getIdx()));
+        });
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ResponseVOUtils.getSuccessResponse(list));
+    }
+
+    /**
+     * 목록 버전 문자열 (페이지 순서대로 게시글 idx:버전:수정일)
+     *
+     * @param codeIdx Long 게시판 타입
+     * @param pagedIdx List<Long> 페이지 게시글 idx 순서
+     * @param versions List<BoardVersionDto> 게시글 버전
+     * @return String
+     */
+    private String getListVersion(Long codeIdx, List<Long> pagedIdx, List<BoardVersionDto> versions) {
+        Map<Long, BoardVersionDto> versionMap = versions.stream()
+                .collect(Collectors.toMap(BoardVersionDto::getBoardIdx, version -> version));
+
+        StringBuilder listVersion = new StringBuilder().append(codeIdx);
+        for (Long boardIdx : pagedIdx) {
+            BoardVersionDto version = versionMap.get(boardIdx);
+            listVersion.append('|').append(boardIdx);
+            if (version != null) listVersion.append(':').append(version.getBoardVersion()).append(':').append(version.getModifiedDate());
+        }
+        return listVersion.toString();
     }
 
 
@@ -180,8 +303,13 @@ public class BoardServiceImpl implements BoardService {
         if (!Objects.equals(board.getMember(), member))
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
 
-        board.update(boardRequest.getTitle(), org.springframework.web.util.HtmlUtils.htmlEscape(boardRequest.getContent()));
-        BoardResponse response = buildBoardResponse(board);
+        String content = BoardContentUtils.sanitize(boardRequest.getContent());
+        board.update(boardRequest.getTitle(),
+                content,
+                BoardContentUtils.extractPreview(content),
+                BoardContentUtils.extractThumbnail(content));
+        boardSearchService.index(board);
+        BoardResponse response = buildBoardResponse(codeIdx, boardIdx);
         return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
 
     }
@@ -213,55 +341,77 @@ public class BoardServiceImpl implements BoardService {
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
 
         board.delete();
+        boardSearchService.remove(board.getBoardIdx());
+        boardHotRankService.remove(codeIdx, board.getBoardIdx());
 
         return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(), HttpStatus.OK);
     }
 
     /**
-     * BoardResponse 빌더 함수(너무 길어서 별도로 작성)
+     * BoardResponse 빌더 함수
+     * 게시글, 댓글, 작성자 표시 정보, 댓글 좋아요 수, 로그인 유저 좋아요 여부를 정해진 횟수의 쿼리로 조회 후 조립
      *
-     * @param board Board
-     * @return BoardResponse
+     * @param codeIdx Long 게시판 타입
+     * @param boardIdx Long 게시글 idx
+     * @return BoardResponse 게시글이 없으면 null
      */
-    public BoardResponse buildBoardResponse(Board board) {
-        Long memberIdx = sessionInfo.getMemberIdx();
+    public BoardResponse buildBoardResponse(Long codeIdx, Long boardIdx) {
+        BoardDetailDto board = boardQueryRepo.getBoard(codeIdx, boardIdx);
+        if (Objects.isNull(board)) return null;
 
-        List<ReplyResponse> replyResponses = board.getReplies().stream()
-                .filter(reply -> reply.getReplyIsRemoved() == 0 || !reply.getChildReplies().isEmpty())
+        Long memberIdx = sessionInfo.getMemberIdx();
+        List<ReplyRowDto> replies = replyQueryRepo.getRepliesByBoardIdx(boardIdx);
+        List<Long> replyIdxList = replies.stream().map(ReplyRowDto::getReplyIdx).toList();
+        Map<Long, Long> replyLikeCountMap = likeQueryRepo.getReplyLikeCountMap(replyIdxList);
+        // 아직 DB에 반영되지 않은 좋아요 증감분 포함
+        likeBufferService.getPendingDeltas(LikeTargetType.REPLY, replyIdxList).forEach((idx, delta) -> replyLikeCountMap.merge(idx, delta, Long::sum));
+        Set<Long> likedReplyIdx = likeBitmapService.getLikedIdx(LikeTargetType.REPLY, replyIdxList, memberIdx);
+
+        Set<Long> writerIdxSet = replies.stream().map(ReplyRowDto::getMemberIdx).collect(Collectors.toCollection(HashSet::new));
+        writerIdxSet.add(board.getMemberIdx());
+        Map<Long, String> nicknameMap = memberProfileCache.getNicknames(writerIdxSet);
+
+        Map<Long, List<ReplyRowDto>> childReplyMap = replies.stream()
+                .filter(reply -> Objects.nonNull(reply.getReplyParentIdx()))
+                .collect(Collectors.groupingBy(ReplyRowDto::getReplyParentIdx));
+
+        List<ReplyResponse> replyResponses = replies.stream()
+                .filter(reply -> Objects.isNull(reply.getReplyParentIdx()))
+                .filter(reply -> reply.getReplyIsRemoved() == 0 || childReplyMap.containsKey(reply.getReplyIdx()))
                 .map(reply -> ReplyResponse.builder()
                         .idx(reply.getReplyIdx())
-                        .nickname(reply.getMember().getMemberNickname())
+                        .nickname(nicknameMap.get(reply.getMemberIdx()))
                         .content(reply.getReplyIsRemoved() == 0 ? reply.getReplyContent() : "삭제된 댓글입니다.")
-                        .likeCount(reply.getLikes().stream().filter(like -> like.getLikeIsLiked() == 1).count())
-                        .isLiked(reply.getLikes().stream().anyMatch(like -> like.getMember().getMemberIdx().equals(memberIdx) && like.getLikeIsLiked() == 1))
-                        .childReplies(reply.getChildReplies().stream()
+                        .likeCount(replyLikeCountMap.getOrDefault(reply.getReplyIdx(), 0L))
+                        .isLiked(likedReplyIdx.contains(reply.getReplyIdx()))
+                        .createdDate(reply.getCreatedDate())
+                        .modifiedDate(reply.getModifiedDate())
+                        .childReplies(childReplyMap.getOrDefault(reply.getReplyIdx(), List.of()).stream()
                                 .filter(childReply -> childReply.getReplyIsRemoved() == 0)
                                 .map(childReply -> ReplyResponse.builder()
                                         .idx(childReply.getReplyIdx())
-                                        .nickname(childReply.getMember().getMemberNickname())
+                                        .nickname(nicknameMap.get(childReply.getMemberIdx()))
                                         .content(childReply.getReplyContent())
-                                        .likeCount(childReply.getLikes().stream().filter(like -> like.getLikeIsLiked() == 1).count())
-                                        .isLiked(childReply.getLikes().stream().anyMatch(like -> like.getMember().getMemberIdx().equals(memberIdx) && like.getLikeIsLiked() == 1))
+                                        .likeCount(replyLikeCountMap.getOrDefault(childReply.getReplyIdx(), 0L))
+                                        .isLiked(likedReplyIdx.contains(childReply.getReplyIdx()))
+                                        .createdDate(childReply.getCreatedDate())
+                                        .modifiedDate(childReply.getModifiedDate())
                                         .build())
                                 .collect(Collectors.toList()))
                         .build())
                 .collect(Collectors.toList());
 
-        Long likeCount = board.getLikes().stream()
-                .filter(like -> like.getLikeIsLiked() == 1).count();
-
-        boolean isLiked = board.getLikes().stream()
-                .anyMatch(like -> like.getMember().getMemberIdx().equals(memberIdx) && like.getLikeIsLiked() == 1);
-
         return BoardResponse.builder()
                 .idx(board.getBoardIdx())
-                .nickname(board.getMember().getMemberNickname())
+                .nickname(nicknameMap.get(board.getMemberIdx()))
                 .title(board.getBoardTitle())
-                .content(org.springframework.web.util.HtmlUtils.htmlUnescape(board.getBoardContent()))
+                .content(board.getBoardContent())
                 .replies(replyResponses)
-                .likeCount(likeCount)
-                .isLiked(isLiked)
-                .hitCount(board.getHitCount())
+                .likeCount(board.getLikeCount() + likeBufferService.getPendingDeltas(LikeTargetType.BOARD, List.of(boardIdx)).getOrDefault(boardIdx, 0L))
+                .isLiked(likeBitmapService.isLiked(LikeTargetType.BOARD, boardIdx, memberIdx))
+                .hitCount(viewCountService.getViewCount(ViewCountType.BOARD, board.getBoardIdx(), board.getHitCount()))
+                .createdDate(board.getCreatedDate())
+                .modifiedDate(board.getModifiedDate())
                 .build();
     }
 
@@ -277,19 +427,30 @@ public class BoardServiceImpl implements BoardService {
         return fileService.uploadBoardFiles(files);
     }
 
+    /**
+     * 본문 img/video src를 업로드된 파일 주소로 변경 (본문을 한 번만 훑으며 치환)
+     *
+     * @param fileUrlMap Map<String, String> 원본 파일명 -> 업로드 주소
+     * @param htmlText String 본문 HTML
+     * @return String 치환된 본문
+     */
     public String updateMediaSrc(Map<String, String> fileUrlMap, String htmlText) {
         if (fileUrlMap == null || fileUrlMap.isEmpty() || htmlText == null) return htmlText;
-        String updateHtmlText = htmlText;
 
-        String regex = "<(img|video)[^>]+src=[\"']([^\"']+)[\"']";
-        Matcher matcher= Pattern.compile(regex, Pattern.CASE_INSENSITIVE).matcher(htmlText);
+        Matcher matcher = BoardContentUtils.MEDIA_SRC.matcher(htmlText);
+        StringBuilder updateHtmlText = new StringBuilder(htmlText.length() + fileUrlMap.size() * 64);
+        int lastEnd = 0;
 
         while (matcher.find()) {
-            if(fileUrlMap.containsKey(matcher.group(2)))
-                updateHtmlText = updateHtmlText.replace(matcher.group(2), fileUrlMap.get(matcher.group(2)));
+            String fileUrl = fileUrlMap.get(matcher.group(2));
+            if (fileUrl == null) continue;
+
+            updateHtmlText.append(htmlText, lastEnd, matcher.start(2)).append(fileUrl);
+            lastEnd = matcher.end(2);
         }
 
-        return updateHtmlText;
+        if (lastEnd == 0) return htmlText;
+        return updateHtmlText.append(htmlText, lastEnd, htmlText.length()).toString();
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.spinner.www.board.service;
+
+import com.spinner.www.board.repository.BoardCountJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대댓글수 컬럼 추가 이전에 작성된 댓글의 대댓글수 채우기
+ * 댓글 목록은 대댓글수가 0인 댓글의 대댓글을 조회하지 않으므로, 야간 보정을 기다리지 않고 기동 시 맞춘다.
+ * 채울 댓글이 없으면 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplyChildCountMigrationRunner implements ApplicationRunner {
+
+    private final BoardCountJdbcRepo boardCountJdbcRepo;
+
+    @Value("${board.count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!boardCountJdbcRepo.existsMissingReplyChildCount()) return;
+
+        long maxIdx = boardCountJdbcRepo.getMaxBoardIdx();
+        int migrated = 0;
+
+        for (long fromIdx = 0; fromIdx < maxIdx; fromIdx += chunkSize) {
+            long toIdx = Math.min(fromIdx + chunkSize, maxIdx);
+            migrated += boardCountJdbcRepo.reconcileReplyChildCount(fromIdx, toIdx);
+        }
+
+        log.info("대댓글수 채우기 완료 count={}", migrated);
+    }
+}
@@ -2,17 +2,36 @@ package com.spinner.www.chat.constants;
 
 public enum MessageType {
 
-    TEXT("텍스트"),
-    IMAGE("이미지"),
-    FILE("첨부파일");
+    TEXT((byte) 1, "텍스트"),
+    IMAGE((byte) 2, "이미지"),
+    FILE((byte) 3, "첨부파일");
 
+    // 채팅 전송 헤더에 쓰는 코드 (순서가 바뀌어도 유지)
+    private final byte code;
     private final String description;
 
-    MessageType(String description) {
+    MessageType(byte code, String description) {
+        this.code = code;
         this.description = description;
     }
 
+    public byte getCode() {
+        return code;
+    }
+
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 코드로 메시지 타입 조회
+     * @param code byte
+     * @return MessageType, 없는 코드면 null
+     */
+    public static MessageType fromCode(byte code) {
+        for (MessageType type : values()) {
+            if (type.code == code) return type;
+        }
+        return null;
+    }
 }
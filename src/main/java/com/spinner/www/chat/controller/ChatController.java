@@ -1,6 +1,9 @@
 package com.spinner.www.chat.controller;
 
+import com.spinner.www.chat.dto.ChatMessageDto;
 import com.spinner.www.chat.io.MessageIo;
+import com.spinner.www.chat.service.ChatMessageService;
+import com.spinner.www.config.security.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -10,17 +13,24 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+
 @Controller
 @RequiredArgsConstructor
 public class ChatController {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageService chatMessageService;
 
     @MessageMapping("/chat") // 클라이언트가 /app/chat으로 메시지를 보낼 때 처리
-    public void handleMessage(MessageIo msg) {
-        Long roomId = msg.getRoomIdx(); // 메시지에서 roomIdx 추출
-        // 동적으로 경로 지정하여 메시지 전송
-        messagingTemplate.convertAndSend("/room/chat/" + roomId, msg);
+    public void handleMessage(MessageIo msg, Principal principal) {
+        // 보낸 사람은 클라이언트 값이 아닌 STOMP 세션 사용자
+        // 순번 할당 후 저장 대기열에 넣고 (저장은 비동기 배치), 거절된 메시지는 전달하지 않음
+        ChatMessageDto message = chatMessageService.submit(msg, StompPrincipal.getMemberIdx(principal));
+        if (message == null) return;
+
+        // 채팅방 채널로 발행 (구독자가 있는 서버가 /room/chat/{roomIdx} 로 전달)
+        chatMessageService.publish(message);
     }
 }
@@ -1,14 +1,12 @@
 package com.spinner.www.chat.controller;
 
 import com.spinner.www.chat.io.CreateChatRoom;
+import com.spinner.www.chat.service.ChatMessageService;
 import com.spinner.www.chat.service.ChatRoomService;
 import com.spinner.www.common.io.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RequiredArgsConstructor
 @RestController
@@ -16,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ChatMessageService chatMessageService;
 
     /**
      * 1:1 채팅방 생성
@@ -27,5 +26,19 @@ public class ChatRoomController {
         return chatRoomService.createDirectChatRoom(chatRoom);
     }
 
+    /**
+     * 채팅방 이전 메시지 조회
+     * @param chatRoomIdx Long 채팅방 idx
+     * @param before Long 이 순번 이전 메시지만 조회 (없으면 최신부터)
+     * @param limit int 조회 갯수
+     * @return ResponseEntity<CommonResponse>
+     */
+    @GetMapping("/{chatRoomIdx}/messages")
+    public ResponseEntity<CommonResponse> getMessages(@PathVariable("chatRoomIdx") Long chatRoomIdx,
+                                                      @RequestParam(value = "before", required = false) Long before,
+                                                      @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return chatMessageService.getMessages(chatRoomIdx, before, limit);
+    }
+
 
 }
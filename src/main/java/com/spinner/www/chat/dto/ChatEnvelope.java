@@ -0,0 +1,74 @@
+package com.spinner.www.chat.dto;
+
+import com.spinner.www.chat.constants.MessageType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 채팅 서버 간 전송 프레임
+ * [버전 1byte][메시지 타입 1byte][채팅방 idx 8byte][직렬화된 JSON 본문]
+ * 라우팅은 헤더만 읽고, 본문은 다시 파싱하지 않고 모든 구독자 전송에 그대로 쓴다.
+ */
+public final class ChatEnvelope {
+
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 1 + 1 + Long.BYTES;
+
+    private final long roomIdx;
+    private final MessageType messageType;
+    private final byte[] payload;
+
+    private ChatEnvelope(long roomIdx, MessageType messageType, byte[] payload) {
+        this.roomIdx = roomIdx;
+        this.messageType = messageType;
+        this.payload = payload;
+    }
+
+    /**
+     * 프레임 생성
+     * @param roomIdx long 채팅방 idx
+     * @param messageType MessageType 메시지 타입
+     * @param payload byte[] 직렬화된 JSON 본문
+     * @return byte[]
+     */
+    public static byte[] encode(long roomIdx, MessageType messageType, byte[] payload) {
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(VERSION)
+                .put(messageType.getCode())
+                .putLong(roomIdx)
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * 프레임 읽기 (헤더만 해석하고 본문은 그대로 보관)
+     * @param frame byte[]
+     * @return ChatEnvelope, 형식이 다르면 null
+     */
+    public static ChatEnvelope decode(byte[] frame) {
+        if (frame == null || frame.length < HEADER_SIZE || frame[0] != VERSION) return null;
+
+        MessageType messageType = MessageType.fromCode(frame[1]);
+        if (messageType == null) return null;
+
+        long roomIdx = ByteBuffer.wrap(frame, 2, Long.BYTES).getLong();
+        return new ChatEnvelope(roomIdx, messageType, Arrays.copyOfRange(frame, HEADER_SIZE, frame.length));
+    }
+
+    public long getRoomIdx() {
+        return roomIdx;
+    }
+
+    public MessageType getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * JSON 본문 (공유 배열이므로 수정하지 않는다)
+     * @return byte[]
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+}
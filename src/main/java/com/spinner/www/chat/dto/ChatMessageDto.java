@@ -0,0 +1,21 @@
+package com.spinner.www.chat.dto;
+
+import com.spinner.www.chat.constants.MessageType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 순번이 할당된 채팅 메시지 (구독자 전송 및 저장 대기열 항목)
+ */
+@Getter
+@Builder
+public class ChatMessageDto {
+    private Long roomIdx;
+    private Long messageSeq;
+    private Long memberIdx;
+    private String content;
+    private MessageType messageType;
+    private LocalDateTime sendDatetime;
+}
@@ -0,0 +1,29 @@
+package com.spinner.www.chat.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.spinner.www.chat.constants.MessageType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+public class ChatMessageRowDto {
+    private Long messageSeq;
+    private Long memberIdx;
+    private String messageContent;
+    private MessageType messageType;
+    private LocalDate messageSendDate;
+    private LocalTime messageSendTime;
+
+    @QueryProjection
+    public ChatMessageRowDto(Long messageSeq, Long memberIdx, String messageContent, MessageType messageType,
+                             LocalDate messageSendDate, LocalTime messageSendTime) {
+        this.messageSeq = messageSeq;
+        this.memberIdx = memberIdx;
+        this.messageContent = messageContent;
+        this.messageType = messageType;
+        this.messageSendDate = messageSendDate;
+        this.messageSendTime = messageSendTime;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 @Entity
@@ -30,6 +31,11 @@ public class ChatRoom extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ChatRoomType chatRoomType;
 
+    @ColumnDefault("0")
+    @Comment("예약한 메시지 순번 상한 (Redis 순번 키를 잃으면 이 값 다음부터 할당)")
+    @Column(nullable = false)
+    private long messageSeq;
+
 
     public static ChatRoom insertDirectChatRoom(String chatRoomName){
         return ChatRoom.builder()
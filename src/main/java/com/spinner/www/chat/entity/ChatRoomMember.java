@@ -12,7 +12,9 @@ import org.hibernate.annotations.Comment;
 
 
 @Entity
-@Table(name = "chat_room_member")
+@Table(name = "chat_room_member", indexes = {
+        @Index(name = "idx_chat_room_member_room_member", columnList = "chatRoomIdx, memberIdx")
+})
 @Comment("채팅방 멤버")
 @Builder
 @NoArgsConstructor
@@ -5,6 +5,7 @@ import com.spinner.www.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
 
@@ -12,18 +13,28 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "message")
+@Table(name = "message", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_message_room_seq", columnNames = {"chatRoomIdx", "messageSeq"})
+})
 @Comment("채팅 메시지 테이블")
+@Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Message {
 
+    /** 메시지 내용 최대 길이 (문자 수) */
+    public static final int CONTENT_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Comment("채팅 메시지 PK")
     private Long messageIdx;
 
+    @Comment("채팅방 내 메시지 순번")
+    private Long messageSeq;
+
+    @Column(length = CONTENT_LENGTH)
     @Comment("메시지 내용")
     private String messageContent;
     @Enumerated(EnumType.STRING)
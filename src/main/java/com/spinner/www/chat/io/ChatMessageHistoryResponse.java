@@ -0,0 +1,19 @@
+package com.spinner.www.chat.io;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 이전 메시지 페이지
+ * 보낸 사람 정보는 메시지마다 반복하지 않고 회원 idx 별로 한 번만 담는다.
+ */
+@Getter
+@Builder
+public class ChatMessageHistoryResponse {
+    private List<ChatMessageResponse> messages;       // 순번 내림차순
+    private Map<Long, ChatSenderResponse> senders;    // 회원 idx 별 보낸 사람
+    private Long nextBefore;                          // 다음 페이지 요청 시 before 값 (마지막 페이지면 null)
+}
@@ -0,0 +1,17 @@
+package com.spinner.www.chat.io;
+
+import com.spinner.www.chat.constants.MessageType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ChatMessageResponse {
+    private Long messageSeq;
+    private Long memberIdx;
+    private String content;
+    private MessageType messageType;
+    private LocalDateTime sendDatetime;
+}
@@ -0,0 +1,11 @@
+package com.spinner.www.chat.io;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChatSenderResponse {
+    private String memberNickname;
+    private Long memberFileIdx;
+}
@@ -1,5 +1,6 @@
 package com.spinner.www.chat.io;
 
+import com.spinner.www.chat.constants.MessageType;
 import lombok.Getter;
 
 @Getter
@@ -7,4 +8,5 @@ public class MessageIo {
     private Long roomIdx;
     private Long memberIdx;
     private String content;
+    private MessageType messageType;
 }
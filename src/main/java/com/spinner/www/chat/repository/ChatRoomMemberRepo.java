@@ -6,4 +6,12 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChatRoomMemberRepo extends JpaRepository<ChatRoomMember, Long> {
+
+    /**
+     * 채팅방 참여 여부
+     * @param chatRoomIdx Long 채팅방 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean
+     */
+    boolean existsByChatRoomChatRoomIdxAndMemberMemberIdx(Long chatRoomIdx, Long memberIdx);
 }
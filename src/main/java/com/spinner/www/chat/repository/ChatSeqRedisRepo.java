@@ -0,0 +1,59 @@
+package com.spinner.www.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Redis 채팅방 메시지 순번 (chat:seq:{roomIdx})
+ * 서버가 여러 대여도 INCR 한 번으로 메시지마다 순번이 정해져, 순번 순서가 할당 순서와 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatSeqRedisRepo {
+
+    private static final String SEQ_PREFIX = "chat:seq:";
+
+    // 키가 있으면 증가한 순번, 없으면 -1 (DB 기준값으로 초기화 필요)
+    private static final RedisScript<Long> NEXT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end"
+                    + " return -1",
+            Long.class);
+
+    // 키가 없을 때만 기준값으로 초기화 후 증가 (동시에 초기화해도 한 번만 적용)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[1]) end"
+                    + " return redis.call('INCR', KEYS[1])",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 다음 순번
+     * @param roomIdx Long 채팅방 idx
+     * @return long 순번, 순번 키가 없으면 -1
+     */
+    public long next(Long roomIdx) {
+        Long seq = stringRedisTemplate.execute(NEXT_SCRIPT, List.of(getSeqKey(roomIdx)));
+        return seq == null ? -1L : seq;
+    }
+
+    /**
+     * 순번 키가 없으면 마지막 순번으로 초기화 후 다음 순번
+     * @param roomIdx Long 채팅방 idx
+     * @param lastSeq long DB에 기록된 마지막 순번
+     * @return long 순번
+     */
+    public long seed(Long roomIdx, long lastSeq) {
+        Long seq = stringRedisTemplate.execute(SEED_SCRIPT, List.of(getSeqKey(roomIdx)), String.valueOf(lastSeq));
+        return seq == null ? -1L : seq;
+    }
+
+    private String getSeqKey(Long roomIdx) {
+        return SEQ_PREFIX + roomIdx;
+    }
+}
@@ -0,0 +1,63 @@
+package com.spinner.www.chat.repository;
+
+import com.spinner.www.chat.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅방의 마지막 메시지 순번 (Redis 순번 키 초기화용)
+     * 예약해 둔 chat_room 순번과 저장된 메시지 순번 중 큰 값 (아직 저장되지 않은 메시지의 순번도 예약 범위 안에 있다)
+     * @param roomIdx Long 채팅방 idx
+     * @return long 마지막 순번 (채팅방이 없으면 -1)
+     */
+    public long findLastSeq(Long roomIdx) {
+        List<Long> lastSeq = jdbcTemplate.queryForList("SELECT GREATEST(cr.message_seq,"
+                + " COALESCE((SELECT MAX(m.message_seq) FROM message m WHERE m.chat_room_idx = cr.chat_room_idx), 0))"
+                + " FROM chat_room cr WHERE cr.chat_room_idx = ?", Long.class, roomIdx);
+        return lastSeq.isEmpty() || lastSeq.get(0) == null ? -1L : lastSeq.get(0);
+    }
+
+    /**
+     * 메시지 순번 예약 (줄어들지 않음)
+     * @param roomIdx Long 채팅방 idx
+     * @param seq long 예약할 마지막 순번
+     */
+    public void reserveSeq(Long roomIdx, long seq) {
+        jdbcTemplate.update("UPDATE chat_room SET message_seq = GREATEST(message_seq, ?) WHERE chat_room_idx = ?", seq, roomIdx);
+    }
+
+    /**
+     * 채팅 메시지 일괄 저장
+     * @param messages List<ChatMessageDto>
+     */
+    public void insertAll(List<ChatMessageDto> messages) {
+        if (messages.isEmpty()) return;
+
+        List<Object[]> params = new ArrayList<>(messages.size());
+        for (ChatMessageDto message : messages) {
+            params.add(new Object[]{
+                    message.getRoomIdx(),
+                    message.getMessageSeq(),
+                    message.getMemberIdx(),
+                    message.getContent(),
+                    message.getMessageType().name(),
+                    Date.valueOf(message.getSendDatetime().toLocalDate()),
+                    Time.valueOf(message.getSendDatetime().toLocalTime())
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO message (chat_room_idx, message_seq, member_idx, message_content, message_type,"
+                + " message_send_date, message_send_time) VALUES (?, ?, ?, ?, ?, ?, ?)", params);
+    }
+}
@@ -0,0 +1,43 @@
+package com.spinner.www.chat.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spinner.www.chat.dto.ChatMessageRowDto;
+import com.spinner.www.chat.dto.QChatMessageRowDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.spinner.www.chat.entity.QMessage.message;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageQueryRepo {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 채팅방 메시지 순번 역순 조회 (keyset)
+     * uk_message_room_seq (chatRoomIdx, messageSeq) 의 요청 구간만 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     * @param chatRoomIdx Long 채팅방 idx
+     * @param beforeSeq Long 이 순번 미만만 조회 (없으면 최신부터)
+     * @param limit int 조회 갯수
+     * @return List<ChatMessageRowDto> 순번 내림차순
+     */
+    public List<ChatMessageRowDto> findBefore(Long chatRoomIdx, Long beforeSeq, int limit) {
+        return queryFactory
+                .select(new QChatMessageRowDto(
+                        message.messageSeq,
+                        message.member.memberIdx,
+                        message.messageContent,
+                        message.messageType,
+                        message.messageSendDate,
+                        message.messageSendTime))
+                .from(message)
+                .where(message.chatRoom.chatRoomIdx.eq(chatRoomIdx),
+                        beforeSeq == null ? null : message.messageSeq.lt(beforeSeq))
+                .orderBy(message.messageSeq.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,32 @@
+package com.spinner.www.chat.service;
+
+import com.spinner.www.chat.dto.ChatMessageDto;
+import com.spinner.www.chat.io.MessageIo;
+import com.spinner.www.common.io.CommonResponse;
+import org.springframework.http.ResponseEntity;
+
+public interface ChatMessageService {
+
+    /**
+     * 채팅 메시지 순번 할당 후 저장 대기열 등록
+     * @param messageIo MessageIo 채팅방 idx, 내용, 메시지 타입 (보낸 회원 값은 사용하지 않음)
+     * @param memberIdx Long 보낸 회원 idx (STOMP 세션 사용자)
+     * @return ChatMessageDto 순번이 할당된 메시지, 검증에 실패하거나 대기열이 가득 차 거절되면 null
+     */
+    ChatMessageDto submit(MessageIo messageIo, Long memberIdx);
+
+    /**
+     * 채팅방 채널로 메시지 발행
+     * @param message ChatMessageDto 순번이 할당된 메시지
+     */
+    void publish(ChatMessageDto message);
+
+    /**
+     * 채팅방 이전 메시지 조회
+     * @param chatRoomIdx Long 채팅방 idx
+     * @param before Long 이 순번 이전 메시지만 조회 (없으면 최신부터)
+     * @param limit int 조회 갯수
+     * @return ResponseEntity<CommonResponse>
+     */
+    ResponseEntity<CommonResponse> getMessages(Long chatRoomIdx, Long before, int limit);
+}
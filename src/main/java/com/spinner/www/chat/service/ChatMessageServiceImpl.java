@@ -0,0 +1,434 @@
+package com.spinner.www.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spinner.www.chat.constants.MessageType;
+import com.spinner.www.chat.dto.ChatEnvelope;
+import com.spinner.www.chat.dto.ChatMessageDto;
+import com.spinner.www.chat.dto.ChatMessageRowDto;
+import com.spinner.www.chat.entity.Message;
+import com.spinner.www.chat.io.ChatMessageHistoryResponse;
+import com.spinner.www.chat.io.ChatMessageResponse;
+import com.spinner.www.chat.io.ChatSenderResponse;
+import com.spinner.www.chat.io.MessageIo;
+import com.spinner.www.chat.repository.ChatRoomMemberRepo;
+import com.spinner.www.chat.repository.ChatSeqRedisRepo;
+import com.spinner.www.chat.repository.MessageJdbcRepo;
+import com.spinner.www.chat.repository.MessageQueryRepo;
+import com.spinner.www.common.io.CommonResponse;
+import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.member.dto.MemberProfileDto;
+import com.spinner.www.member.dto.SessionInfo;
+import com.spinner.www.member.service.MemberProfileCache;
+import com.spinner.www.util.ResponseVOUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장 파이프라인
+ * STOMP 수신 스레드는 순번만 할당해 고정 크기 큐(ring buffer)에 넣고, 저장 스레드 하나가 갯수/시간 단위로 모아 JDBC 배치로 저장한다.
+ * DB가 밀려 큐가 차면 수신 스레드가 대기하고, 대기 시간을 넘기면 메시지를 거절한다.
+ * 일시적인 DB 오류는 같은 배치를 재시도하고, 그 외 오류는 배치를 나눠 저장해 실패한 메시지만 dead letter 로 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageServiceImpl implements ChatMessageService {
+
+    private final MessageJdbcRepo messageJdbcRepo;
+    private final ChatSeqRedisRepo chatSeqRedisRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final MessageQueryRepo messageQueryRepo;
+    private final ChatRoomMemberRepo chatRoomMemberRepo;
+    private final MemberProfileCache memberProfileCache;
+    private final SessionInfo sessionInfo;
+    private final ChatTopicRegistry chatTopicRegistry;
+    private final RedisTemplate<String, byte[]> chatFrameRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.message.history.max-limit:100}")
+    private int historyMaxLimit;
+
+    @Value("${chat.message.pipeline.capacity:10000}")
+    private int capacity;
+
+    @Value("${chat.message.pipeline.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.message.pipeline.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${chat.message.pipeline.offer-timeout-ms:1000}")
+    private long offerTimeoutMs;
+
+    @Value("${chat.message.pipeline.retry-delay-ms:1000}")
+    private long retryDelayMs;
+
+    @Value("${chat.message.pipeline.dead-letter-key:chat:message:dead-letter}")
+    private String deadLetterKey;
+
+    @Value("${chat.message.seq-reserve-size:1000}")
+    private long seqReserveSize;
+
+    @Value("${chat.message.member-cache-ttl-seconds:60}")
+    private long memberCacheTtlSeconds;
+
+    // 채팅방 멤버 여부 ("채팅방 idx:회원 idx"), 메시지마다 DB를 조회하지 않도록 짧게 보관
+    private Cache<String, Boolean> roomMembers;
+
+    private BlockingQueue<ChatMessageDto> queue;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    private Timer flushTimer;
+    private Counter persistedCounter;
+    private Counter rejectedCounter;
+    private Counter deadLetterCounter;
+
+    @PostConstruct
+    public void init() {
+        roomMembers = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(memberCacheTtlSeconds))
+                .build();
+        queue = new ArrayBlockingQueue<>(capacity);
+        meterRegistry.gauge("spinner.chat.message.queue.depth", queue, BlockingQueue::size);
+        flushTimer = meterRegistry.timer("spinner.chat.message.flush");
+        persistedCounter = meterRegistry.counter("spinner.chat.message.persisted");
+        rejectedCounter = meterRegistry.counter("spinner.chat.message.rejected");
+        deadLetterCounter = meterRegistry.counter("spinner.chat.message.dead-lettered");
+
+        writer = new Thread(this::run, "chat-message-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 채팅 메시지 순번 할당 후 저장 대기열 등록
+     * 저장 단계에서 실패하지 않도록 내용 길이와 채팅방 멤버 여부를 먼저 확인한다.
+     * @param messageIo MessageIo
+     * @param memberIdx Long 보낸 회원 idx (STOMP 세션 사용자)
+     * @return ChatMessageDto 순번이 할당된 메시지, 검증에 실패하거나 채팅방이 없거나 대기열이 가득 차 거절되면 null
+     */
+    @Override
+    public ChatMessageDto submit(MessageIo messageIo, Long memberIdx) {
+        Long roomIdx = messageIo.getRoomIdx();
+        String content = messageIo.getContent();
+        if (roomIdx == null || memberIdx == null || content == null || content.isEmpty()) return null;
+
+        // 컬럼 길이는 문자 수 기준
+        if (content.codePointCount(0, content.length()) > Message.CONTENT_LENGTH) {
+            rejectedCounter.increment();
+            log.debug("채팅 메시지 길이 초과 roomIdx={} memberIdx={}", roomIdx, memberIdx);
+            return null;
+        }
+
+        if (!isRoomMember(roomIdx, memberIdx)) {
+            rejectedCounter.increment();
+            log.debug("채팅방 멤버가 아닌 회원의 메시지 roomIdx={} memberIdx={}", roomIdx, memberIdx);
+            return null;
+        }
+
+        long messageSeq = nextSeq(roomIdx);
+        if (messageSeq < 0) return null;
+
+        ChatMessageDto message = ChatMessageDto.builder()
+                .roomIdx(roomIdx)
+                .messageSeq(messageSeq)
+                .memberIdx(memberIdx)
+                .content(content)
+                .messageType(messageIo.getMessageType() == null ? MessageType.TEXT : messageIo.getMessageType())
+                .sendDatetime(LocalDateTime.now())
+                .build();
+
+        try {
+            if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) return message;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        log.warn("채팅 메시지 저장 대기열 초과 roomIdx={} depth={}", message.getRoomIdx(), queue.size());
+        return null;
+    }
+
+    /**
+     * 채팅방 채널로 메시지 발행
+     * 채팅방 구독자가 있는 서버만 받아 각자의 구독자에게 전달한다.
+     * Redis 발행에 실패하면 이 서버의 구독자에게만 전달한다.
+     * @param message ChatMessageDto
+     */
+    @Override
+    public void publish(ChatMessageDto message) {
+        try {
+            // 한 번만 직렬화하고, 받는 서버는 헤더만 읽고 본문을 그대로 전달한다
+            byte[] payload = objectMapper.writeValueAsBytes(message);
+            byte[] frame = ChatEnvelope.encode(message.getRoomIdx(), message.getMessageType(), payload);
+            chatFrameRedisTemplate.convertAndSend(chatTopicRegistry.getTopic(message.getRoomIdx()).getTopic(), frame);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("채팅 메시지 발행 실패, 이 서버에만 전달 roomIdx={}", message.getRoomIdx(), e);
+            messagingTemplate.convertAndSend("/room/chat/" + message.getRoomIdx(), message);
+        }
+    }
+
+    /**
+     * 채팅방 이전 메시지 조회 (순번 keyset)
+     * @param chatRoomIdx Long 채팅방 idx
+     * @param before Long 이 순번 이전 메시지만 조회 (없으면 최신부터)
+     * @param limit int 조회 갯수
+     * @return ResponseEntity<CommonResponse>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<CommonResponse> getMessages(Long chatRoomIdx, Long before, int limit) {
+        Long memberIdx = sessionInfo.getMemberIdx();
+        if (memberIdx == null) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
+        }
+
+        // 채팅방 멤버만 조회 가능
+        if (!chatRoomMemberRepo.existsByChatRoomChatRoomIdxAndMemberMemberIdx(chatRoomIdx, memberIdx)) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
+        }
+
+        // 다음 페이지 여부 확인을 위해 하나 더 조회
+        int size = Math.max(1, Math.min(limit, historyMaxLimit));
+        List<ChatMessageRowDto> rows = messageQueryRepo.findBefore(chatRoomIdx, before, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) rows = rows.subList(0, size);
+
+        List<ChatMessageResponse> messages = rows.stream()
+                .map(row -> ChatMessageResponse.builder()
+                        .messageSeq(row.getMessageSeq())
+                        .memberIdx(row.getMemberIdx())
+                        .content(row.getMessageContent())
+                        .messageType(row.getMessageType())
+                        .sendDatetime(row.getMessageSendDate() == null || row.getMessageSendTime() == null
+                                ? null : LocalDateTime.of(row.getMessageSendDate(), row.getMessageSendTime()))
+                        .build())
+                .toList();
+
+        // 보낸 사람 표시 정보는 페이지 전체를 한 번에 조회
+        Map<Long, ChatSenderResponse> senders = new HashMap<>();
+        Map<Long, MemberProfileDto> profiles = memberProfileCache.getProfiles(rows.stream().map(ChatMessageRowDto::getMemberIdx).distinct().toList());
+        profiles.forEach((idx, profile) -> senders.put(idx, ChatSenderResponse.builder()
+                .memberNickname(profile.getMemberNickname())
+                .memberFileIdx(profile.getMemberFileIdx())
+                .build()));
+
+        ChatMessageHistoryResponse response = ChatMessageHistoryResponse.builder()
+                .messages(messages)
+                .senders(senders)
+                .nextBefore(hasNext ? rows.get(rows.size() - 1).getMessageSeq() : null)
+                .build();
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 채팅방 멤버 여부 (짧게 캐시)
+     * @param roomIdx Long 채팅방 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean
+     */
+    private boolean isRoomMember(Long roomIdx, Long memberIdx) {
+        return roomMembers.get(roomIdx + ":" + memberIdx,
+                key -> chatRoomMemberRepo.existsByChatRoomChatRoomIdxAndMemberMemberIdx(roomIdx, memberIdx));
+    }
+
+    /**
+     * 채팅방의 다음 메시지 순번 (메시지마다 Redis 에서 할당, 순번 키가 없으면 DB 마지막 순번으로 초기화)
+     * Redis 순번 키를 잃어도 이미 할당한 순번을 다시 주지 않도록, 할당보다 한 구간 앞까지 chat_room.message_seq 에 예약해 둔다.
+     * @param roomIdx Long 채팅방 idx
+     * @return long 순번, 채팅방이 없거나 할당에 실패하면 -1
+     */
+    private long nextSeq(Long roomIdx) {
+        long seq;
+        long reserveTo;
+        try {
+            seq = chatSeqRedisRepo.next(roomIdx);
+            if (seq > 0) {
+                // 구간의 첫 순번을 받은 서버가 다음 구간 끝까지 예약
+                if ((seq - 1) % seqReserveSize != 0) return seq;
+                reserveTo = seq - 1 + 2 * seqReserveSize;
+            } else {
+                long lastSeq = messageJdbcRepo.findLastSeq(roomIdx);
+                if (lastSeq < 0) return -1L;
+                seq = chatSeqRedisRepo.seed(roomIdx, lastSeq);
+                if (seq < 0) return -1L;
+                reserveTo = seq + 2 * seqReserveSize;
+            }
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 순번 할당 실패 roomIdx={}", roomIdx, e);
+            return -1L;
+        }
+
+        try {
+            messageJdbcRepo.reserveSeq(roomIdx, reserveTo);
+        } catch (RuntimeException e) {
+            // 이미 받은 순번은 그대로 쓰고, 다음 구간 경계에서 다시 예약한다
+            log.warn("채팅 메시지 순번 예약 실패 roomIdx={} reserveTo={}", roomIdx, reserveTo, e);
+        }
+        return seq;
+    }
+
+    private void run() {
+        List<ChatMessageDto> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 중에는 남은 메시지를 모두 저장한다
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            flush(batch);
+        }
+    }
+
+    /**
+     * 첫 메시지가 들어온 뒤 batchSize 만큼 모이거나 flushIntervalMs 가 지날 때까지 모은다
+     * @param batch List<ChatMessageDto>
+     */
+    private void collect(List<ChatMessageDto> batch) throws InterruptedException {
+        ChatMessageDto first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) return;
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+            ChatMessageDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 모은 메시지 저장 후 배치 비우기
+     * @param batch List<ChatMessageDto>
+     */
+    private void flush(List<ChatMessageDto> batch) {
+        if (batch.isEmpty()) return;
+        save(batch);
+        batch.clear();
+    }
+
+    /**
+     * 메시지 저장
+     * 일시적인 오류는 대기 후 같은 배치를 재시도하고 (그 사이 큐가 차서 수신 쪽이 밀린다),
+     * 그 외 오류는 다시 시도해도 같으므로 배치를 반으로 나눠 저장해 실패한 메시지만 골라낸다.
+     * @param batch List<ChatMessageDto>
+     */
+    private void save(List<ChatMessageDto> batch) {
+        while (true) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                transactionTemplate.executeWithoutResult(status -> messageJdbcRepo.insertAll(batch));
+                sample.stop(flushTimer);
+                persistedCounter.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    split(batch, e);
+                    return;
+                }
+                // 종료 중에는 더 기다리지 않고 보관
+                if (!running) {
+                    deadLetter(batch, e);
+                    return;
+                }
+                log.error("채팅 메시지 저장 실패, 재시도 size={}", batch.size(), e);
+                try {
+                    Thread.sleep(retryDelayMs);
+                } catch (InterruptedException interrupted) {
+                    // 종료 중이어도 저장을 한 번 더 시도한다
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치를 반으로 나눠 저장, 한 건만 남아도 실패하면 dead letter
+     * @param batch List<ChatMessageDto>
+     * @param cause RuntimeException 저장 실패 원인
+     */
+    private void split(List<ChatMessageDto> batch, RuntimeException cause) {
+        if (batch.size() == 1) {
+            deadLetter(batch, cause);
+            return;
+        }
+        int half = batch.size() / 2;
+        save(new ArrayList<>(batch.subList(0, half)));
+        save(new ArrayList<>(batch.subList(half, batch.size())));
+    }
+
+    /**
+     * 저장하지 못한 메시지를 Redis 목록에 보관 (보관도 실패하면 로그로 남김)
+     * @param messages List<ChatMessageDto>
+     * @param cause RuntimeException 저장 실패 원인
+     */
+    private void deadLetter(List<ChatMessageDto> messages, RuntimeException cause) {
+        log.error("채팅 메시지 저장 실패, dead letter 보관 size={}", messages.size(), cause);
+        deadLetterCounter.increment(messages.size());
+        for (ChatMessageDto message : messages) {
+            try {
+                chatFrameRedisTemplate.opsForList().rightPush(deadLetterKey, objectMapper.writeValueAsBytes(message));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error("채팅 메시지 유실 roomIdx={} seq={} memberIdx={} content={}",
+                        message.getRoomIdx(), message.getMessageSeq(), message.getMemberIdx(), message.getContent(), e);
+            }
+        }
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 오류인지 (연결 실패, 락 대기 초과, 교착 등)
+     * @param e RuntimeException
+     * @return boolean
+     */
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
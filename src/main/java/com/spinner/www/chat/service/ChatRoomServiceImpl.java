@@ -7,29 +7,31 @@ import com.spinner.www.chat.io.CreateChatRoom;
 import com.spinner.www.chat.repository.ChatRoomMemberRepo;
 import com.spinner.www.chat.repository.ChatRoomRepo;
 import com.spinner.www.common.io.CommonResponse;
+import com.spinner.www.constants.CommonResultCode;
 import com.spinner.www.member.dto.MemberDto;
 import com.spinner.www.member.entity.Member;
 import com.spinner.www.member.mapper.MemberMapper;
-import com.spinner.www.member.service.MemberService;
+import com.spinner.www.member.repository.MemberRepo;
+import com.spinner.www.member.service.MemberProfileCache;
 import com.spinner.www.util.ResponseVOUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
 public class ChatRoomServiceImpl implements ChatRoomService{
 
     private final ChatRoomRepo chatRoomRepo;
-    private final MemberService  memberService;
+    private final MemberRepo memberRepo;
+    private final MemberProfileCache memberProfileCache;
     private final ChatRoomMemberRepo chatRoomMemberRepo;
 
-    private static final ConcurrentHashMap<Long, ChannelTopic> CONCURRENT_HASH_MAP = new ConcurrentHashMap<>();
-
     /**
      * 1:1 채팅방 생성
      * @param createChatRoom
@@ -38,10 +40,17 @@ public class ChatRoomServiceImpl implements ChatRoomService{
     @Override
     public ResponseEntity<CommonResponse> createDirectChatRoom(CreateChatRoom createChatRoom) {
 
-        // 보낸 사람
-        Member sendMember = memberService.getMember(createChatRoom.getSendIdx());
-        Member fromMember = memberService.getMember(createChatRoom.getFromIdx());
-        String chatRoomName = sendMember.getMemberNickname() + " , " + fromMember.getMemberNickname();
+        // 보낸 사람, 받는 사람 닉네임은 캐시에서 한 번에 조회
+        Map<Long, String> nicknameMap = memberProfileCache.getNicknames(List.of(createChatRoom.getSendIdx(), createChatRoom.getFromIdx()));
+        String sendNickname = nicknameMap.get(createChatRoom.getSendIdx());
+        String fromNickname = nicknameMap.get(createChatRoom.getFromIdx());
+        if (Objects.isNull(sendNickname) || Objects.isNull(fromNickname))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
+        String chatRoomName = sendNickname + " , " + fromNickname;
+
+        // 채팅방 멤버 연결에는 회원 idx 만 필요하므로 프록시 사용
+        Member sendMember = memberRepo.getReferenceById(createChatRoom.getSendIdx());
+        Member fromMember = memberRepo.getReferenceById(createChatRoom.getFromIdx());
 
         // 채팅방 생성
         ChatRoom chatRoom =
@@ -56,9 +65,6 @@ public class ChatRoomServiceImpl implements ChatRoomService{
         chatRoomMemberRepo.save(sendChatRoomMember);
         chatRoomMemberRepo.save(fromChatRoomMember);
 
-        ChannelTopic topic = new ChannelTopic(String.valueOf(chatRoom.getChatRoomIdx()));
-        CONCURRENT_HASH_MAP.putIfAbsent(chatRoom.getChatRoomIdx(), topic);
-
         return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(chatRoom.getChatRoomIdx()), HttpStatus.OK);
     }
 }
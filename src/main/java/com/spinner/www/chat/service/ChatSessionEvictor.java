@@ -0,0 +1,57 @@
+package com.spinner.www.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 강제 종료
+ * 연결된 WebSocket 세션을 세션 id 로 기억해 두었다가, 전송 대기열이 넘쳐 프레임을 잃은 세션을 SESSION_NOT_RELIABLE 로 끊는다.
+ * 끊긴 클라이언트는 다시 연결해 채팅 내역 API 로 빠진 메시지를 채운다.
+ */
+@Slf4j
+@Component
+public class ChatSessionEvictor implements WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 세션 강제 종료
+     * @param sessionId String STOMP 세션 id (없으면 무시)
+     */
+    public void evict(String sessionId) {
+        if (sessionId == null) return;
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session == null) return;
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("채팅 세션 종료 실패 sessionId={}", sessionId, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.spinner.www.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * STOMP 세션 지표
+ * 전송 시간/버퍼 한도(chat.fanout.send-time-limit-ms, buffer-size-limit-bytes)를 넘기거나 전송 대기열에서 거절돼 서버가 끊은 세션을 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSessionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private Counter evictedCounter;
+
+    @PostConstruct
+    public void init() {
+        evictedCounter = meterRegistry.counter("spinner.chat.fanout.evicted");
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        // 한도를 넘긴 세션은 SESSION_NOT_RELIABLE 로 닫힌다
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) evictedCounter.increment();
+    }
+}
@@ -0,0 +1,70 @@
+package com.spinner.www.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 채팅방 구독(/room/chat/{roomIdx})을 채팅방 채널 구독자로 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSubscriptionTracker {
+
+    private static final String DESTINATION_PREFIX = "/room/chat/";
+
+    private final ChatTopicRegistry chatTopicRegistry;
+    private final RedisSubscriber redisSubscriber;
+
+    // STOMP 세션 id -> (구독 id -> 채팅방 idx)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomIdx = getRoomIdx(accessor.getDestination());
+        if (roomIdx == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+        Long previous = sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomIdx);
+        if (previous == null) chatTopicRegistry.join(roomIdx, redisSubscriber);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null) return;
+        Long roomIdx = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomIdx != null) chatTopicRegistry.leave(roomIdx, redisSubscriber);
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) return;
+        // 같은 세션의 구독 해제와 겹쳐도 한 번만 빠지도록 항목 단위로 제거
+        for (String subscriptionId : subscriptions.keySet()) {
+            Long roomIdx = subscriptions.remove(subscriptionId);
+            if (roomIdx != null) chatTopicRegistry.leave(roomIdx, redisSubscriber);
+        }
+    }
+
+    private Long getRoomIdx(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) return null;
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.spinner.www.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 Redis 채널 (chat:room:{roomIdx}) 구독 관리
+ * 이 서버에 해당 채팅방 구독자가 생기면 채널을 구독하고, 마지막 구독자가 나가면 해제한다.
+ * 서버는 자기 구독자가 있는 채팅방 메시지만 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTopicRegistry {
+
+    private static final String TOPIC_PREFIX = "chat:room:";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static class Subscription {
+        private final ChannelTopic topic;
+        private int refCount;
+
+        private Subscription(ChannelTopic topic) {
+            this.topic = topic;
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 채널
+     * @param roomIdx Long 채팅방 idx
+     * @return ChannelTopic
+     */
+    public ChannelTopic getTopic(Long roomIdx) {
+        Subscription subscription = subscriptions.get(roomIdx);
+        return subscription != null ? subscription.topic : new ChannelTopic(TOPIC_PREFIX + roomIdx);
+    }
+
+    /**
+     * 채팅방 구독자 추가 (첫 구독자면 채널 구독)
+     * @param roomIdx Long 채팅방 idx
+     * @param listener MessageListener 채널 메시지를 받을 리스너
+     */
+    public void join(Long roomIdx, MessageListener listener) {
+        subscriptions.compute(roomIdx, (key, subscription) -> {
+            if (subscription == null) {
+                subscription = new Subscription(new ChannelTopic(TOPIC_PREFIX + roomIdx));
+                redisMessageListenerContainer.addMessageListener(listener, subscription.topic);
+                log.debug("채팅방 채널 구독 roomIdx={}", roomIdx);
+            }
+            subscription.refCount++;
+            return subscription;
+        });
+    }
+
+    /**
+     * 채팅방 구독자 제거 (마지막 구독자면 채널 구독 해제)
+     * @param roomIdx Long 채팅방 idx
+     * @param listener MessageListener 채널 메시지를 받던 리스너
+     */
+    public void leave(Long roomIdx, MessageListener listener) {
+        subscriptions.computeIfPresent(roomIdx, (key, subscription) -> {
+            if (--subscription.refCount > 0) return subscription;
+            redisMessageListenerContainer.removeMessageListener(listener, subscription.topic);
+            log.debug("채팅방 채널 구독 해제 roomIdx={}", roomIdx);
+            return null;
+        });
+    }
+
+    /**
+     * 이 서버가 구독 중인 채팅방 수
+     * @return int
+     */
+    public int getSubscribedRoomCount() {
+        return subscriptions.size();
+    }
+}
@@ -1,68 +1,48 @@
 package com.spinner.www.chat.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.spinner.www.chat.io.MessageIo;
+import com.spinner.www.chat.dto.ChatEnvelope;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
-
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.util.MimeTypeUtils;
 
 @Service
 @RequiredArgsConstructor
 public class RedisSubscriber implements MessageListener {
 
     private static final Logger log = LoggerFactory.getLogger(RedisSubscriber.class);
-    private final ObjectMapper objectMapper;
-
-    private static final Map<Long, CopyOnWriteArrayList<WebSocketSession>> roomSessionMap = new ConcurrentHashMap<>();
+    private static final String STOMP_DESTINATION_PREFIX = "/room/chat/";
 
-
-    // 세션 추가
-    public void addSession(Long roomIdx, WebSocketSession session) {
-        roomSessionMap.putIfAbsent(roomIdx, new CopyOnWriteArrayList<>());
-        roomSessionMap.get(roomIdx).add(session);
-        log.info("세션 추가: roomIdx={}, 세션 개수={}", roomIdx, roomSessionMap.get(roomIdx).size());
-    }
-
-    // 세션 제거
-    public void removeSession(Long roomIdx, WebSocketSession session) {
-        if (roomSessionMap.containsKey(roomIdx)) {
-            roomSessionMap.get(roomIdx).remove(session);
-        }
-    }
+    private final SimpMessagingTemplate messagingTemplate;
 
     /**
      * redis 로 메시지 수신 콜백
+     * 프레임 헤더의 채팅방 idx 로 라우팅하고, 본문은 다시 파싱하지 않고 STOMP 구독자에게 그대로 전달한다.
+     * 구독자별 전송은 clientOutboundChannel 스레드풀에서 처리되어 Redis 수신 스레드를 막지 않는다.
      * @param message
      * @param pattern
      */
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String publish = new String(message.getBody());
-        System.out.println("온메시지");
-        log.info("Redis 메시지 수신: {}", publish);
-        try {
-            MessageIo messageIo = objectMapper.readValue(publish, MessageIo.class);
-            Long roomIdx = messageIo.getRoomIdx();
+        ChatEnvelope envelope = ChatEnvelope.decode(message.getBody());
+        if (envelope == null) {
+            log.warn("알 수 없는 채팅 프레임 수신: channel={}", new String(message.getChannel()));
+            return;
+        }
 
-            if(roomSessionMap.containsKey(roomIdx)){
-                for(WebSocketSession session : roomSessionMap.get(roomIdx)){
-                    session.sendMessage(new TextMessage(publish));
-                }
-            }
+        long roomIdx = envelope.getRoomIdx();
 
-        } catch (IOException e) {
-            log.info("메시지 수신 오류");
-        }
+        // STOMP 구독자 (/room/chat/{roomIdx})
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(STOMP_DESTINATION_PREFIX + roomIdx, MessageBuilder.createMessage(envelope.getPayload(), accessor.getMessageHeaders()));
     }
 }
@@ -0,0 +1,63 @@
+package com.spinner.www.common.repository;
+
+import com.spinner.www.constants.ViewCountType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ViewCountJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증가분 일괄 반영
+     * 일부 행만 실패하면 예외 대신 실패한 대상 idx 를 돌려준다 (성공한 행은 호출한 트랜잭션과 함께 커밋)
+     * @param type ViewCountType 조회수 대상
+     * @param deltaMap Map<Long, Long> 대상 idx 별 증가분
+     * @return List<Long> 반영되지 않은 대상 idx
+     */
+    public List<Long> increaseAll(ViewCountType type, Map<Long, Long> deltaMap) {
+        if (deltaMap.isEmpty()) return List.of();
+
+        String sql = "UPDATE " + type.getTableName()
+                + " SET " + type.getCountColumn() + " = COALESCE(" + type.getCountColumn() + ", 0) + ?"
+                + " WHERE " + type.getIdxColumn() + " = ?";
+
+        List<Long> idxList = new ArrayList<>(deltaMap.keySet());
+        List<Object[]> params = new ArrayList<>(idxList.size());
+        idxList.forEach(idx -> params.add(new Object[]{deltaMap.get(idx), idx}));
+
+        try {
+            jdbcTemplate.batchUpdate(sql, params);
+            return List.of();
+        } catch (DataAccessException e) {
+            BatchUpdateException batchException = findBatchUpdateException(e);
+            if (batchException == null) throw e;
+
+            // 실행되지 않았거나(드라이버가 중간에 멈춘 경우) 실패한 행만 골라낸다
+            int[] updateCounts = batchException.getUpdateCounts();
+            List<Long> failed = new ArrayList<>();
+            for (int i = 0; i < idxList.size(); i++) {
+                if (updateCounts == null || i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED)
+                    failed.add(idxList.get(i));
+            }
+            return failed;
+        }
+    }
+
+    private BatchUpdateException findBatchUpdateException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batchException) return batchException;
+        }
+        return null;
+    }
+}
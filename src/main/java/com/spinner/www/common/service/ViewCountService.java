@@ -0,0 +1,35 @@
+package com.spinner.www.common.service;
+
+import com.spinner.www.constants.ViewCountType;
+
+public interface ViewCountService {
+
+    /**
+     * 조회수 1 증가 (메모리 버퍼에 적재 후 주기적으로 DB 반영)
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     */
+    void increase(ViewCountType type, Long idx);
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     * @return long 미반영 증가분
+     */
+    long getPendingCount(ViewCountType type, Long idx);
+
+    /**
+     * DB 저장값 + 미반영 증가분
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     * @param persistedCount Long DB 저장값
+     * @return Long 현재 조회수
+     */
+    Long getViewCount(ViewCountType type, Long idx, Long persistedCount);
+
+    /**
+     * 버퍼에 쌓인 조회수 DB 반영
+     */
+    void flush();
+}
@@ -0,0 +1,170 @@
+package com.spinner.www.common.service;
+
+import com.spinner.www.common.repository.ViewCountJdbcRepo;
+import com.spinner.www.constants.ViewCountType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private static final String REDIS_KEY_PREFIX = "viewCount:";
+
+    private final ViewCountJdbcRepo viewCountJdbcRepo;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${view-count.redis-mirror:false}")
+    private boolean redisMirror;
+
+    // LongAdder는 내부적으로 셀을 분산(striping)해서 같은 글에 조회가 몰려도 경합이 적다
+    // 반영 시에는 버퍼 전체를 새 맵으로 교체하므로, 조회가 없던 글은 따로 지우지 않아도 버퍼에서 빠진다
+    private final Map<ViewCountType, AtomicReference<ConcurrentHashMap<Long, LongAdder>>> buffers = new EnumMap<>(ViewCountType.class);
+
+    {
+        for (ViewCountType type : ViewCountType.values()) {
+            buffers.put(type, new AtomicReference<>(new ConcurrentHashMap<>()));
+        }
+    }
+
+    /**
+     * 조회수 1 증가 (메모리 버퍼에 적재 후 주기적으로 DB 반영)
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     */
+    @Override
+    public void increase(ViewCountType type, Long idx) {
+        if (idx == null) return;
+        add(type, idx, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     * @return long 미반영 증가분
+     */
+    @Override
+    public long getPendingCount(ViewCountType type, Long idx) {
+        if (idx == null) return 0L;
+        LongAdder adder = buffers.get(type).get().get(idx);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * DB 저장값 + 미반영 증가분
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     * @param persistedCount Long DB 저장값
+     * @return Long 현재 조회수
+     */
+    @Override
+    public Long getViewCount(ViewCountType type, Long idx, Long persistedCount) {
+        long persisted = persistedCount == null ? 0L : persistedCount;
+        return persisted + getPendingCount(type, idx);
+    }
+
+    /**
+     * 버퍼에 쌓인 조회수 DB 반영
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:3000}")
+    public void flush() {
+        for (ViewCountType type : ViewCountType.values()) {
+            flush(type);
+        }
+    }
+
+    /**
+     * 종료 전 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 대상별 버퍼 DB 반영
+     * @param type ViewCountType 조회수 대상
+     */
+    private void flush(ViewCountType type) {
+        // 버퍼를 통째로 떼어낸다 (이후 증가분은 새 버퍼에 쌓인다)
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(type).getAndSet(new ConcurrentHashMap<>());
+        Map<Long, Long> deltaMap = new HashMap<>();
+
+        buffer.forEach((idx, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) deltaMap.put(idx, delta);
+        });
+
+        if (deltaMap.isEmpty()) return;
+
+        List<Long> failed;
+        try {
+            // 예외로 끝나면 전부 롤백되므로 모두 다시 시도하고, 일부 행만 실패하면 그 행만 다시 시도한다
+            failed = transactionTemplate.execute(status -> viewCountJdbcRepo.increaseAll(type, deltaMap));
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 실패 type={}, size={}", type, deltaMap.size(), e);
+            deltaMap.forEach((idx, delta) -> add(type, idx, delta));
+            return;
+        }
+
+        if (failed != null && !failed.isEmpty()) {
+            log.error("조회수 일부 반영 실패 type={}, failed={}/{}", type, failed.size(), deltaMap.size());
+            failed.forEach(idx -> add(type, idx, deltaMap.remove(idx)));
+        }
+
+        if (redisMirror) mirrorToRedis(type, deltaMap);
+    }
+
+    /**
+     * 현재 버퍼에 증가분 적재
+     * 반영 중 교체된 이전 버퍼에 늦게 쌓인 증가분은 꺼내서 현재 버퍼로 옮긴다
+     * (sumThenReset 은 셀 단위로 값을 떼어내므로, 반영과 이 스레드 중 한 곳에서만 가져간다)
+     * @param type ViewCountType 조회수 대상
+     * @param idx Long 대상 idx
+     * @param delta long 증가분
+     */
+    private void add(ViewCountType type, Long idx, long delta) {
+        AtomicReference<ConcurrentHashMap<Long, LongAdder>> current = buffers.get(type);
+        while (delta > 0) {
+            ConcurrentHashMap<Long, LongAdder> buffer = current.get();
+            LongAdder adder = buffer.get(idx);
+            if (adder == null) adder = buffer.computeIfAbsent(idx, key -> new LongAdder());
+            adder.add(delta);
+
+            if (current.get() == buffer) return;
+            delta = adder.sumThenReset();
+        }
+    }
+
+    /**
+     * 반영된 증가분을 Redis에 누적 (다른 서버/배치에서 조회수 흐름을 보기 위한 용도)
+     * @param type ViewCountType 조회수 대상
+     * @param deltaMap Map<Long, Long> 대상 idx 별 증가분
+     */
+    private void mirrorToRedis(ViewCountType type, Map<Long, Long> deltaMap) {
+        try {
+            String prefix = REDIS_KEY_PREFIX + type.getTableName() + ":";
+            deltaMap.forEach((idx, delta) -> stringRedisTemplate.opsForValue().increment(prefix + idx, delta));
+        } catch (RuntimeException e) {
+            log.warn("조회수 Redis 반영 실패 type={}", type, e);
+        }
+    }
+}
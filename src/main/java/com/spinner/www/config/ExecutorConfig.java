@@ -0,0 +1,88 @@
+package com.spinner.www.config;
+
+import com.spinner.www.chat.service.ChatSessionEvictor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 게시글 첨부파일 저장용 스레드풀
+     * 큐가 가득 차면 요청 스레드에서 직접 저장해 무한정 쌓이지 않도록 한다.
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "fileUploadExecutor")
+    public ThreadPoolTaskExecutor fileUploadExecutor(@Value("${file.upload.executor.core-size:4}") int coreSize,
+                                                     @Value("${file.upload.executor.max-size:8}") int maxSize,
+                                                     @Value("${file.upload.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * StreamingResponseBody 등 MVC 비동기 응답용 스레드풀
+     * 내보내기처럼 오래 걸리는 응답이 몰려도 스레드가 무한정 늘지 않도록 제한하고, 초과 요청은 거절한다.
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(@Value("${mvc.async.executor.core-size:2}") int coreSize,
+                                                   @Value("${mvc.async.executor.max-size:8}") int maxSize,
+                                                   @Value("${mvc.async.executor.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * STOMP 구독자 전송(clientOutboundChannel)용 스레드풀
+     * 대기열이 가득 차면 전송을 거절(예외)하고, 프레임을 잃은 세션은 SESSION_NOT_RELIABLE 로 끊는다.
+     * 거절을 예외로 알려야 세션별 순서 보장(preservePublishOrder)이 다음 프레임으로 넘어간다.
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "chatOutboundExecutor")
+    public ThreadPoolTaskExecutor chatOutboundExecutor(MeterRegistry meterRegistry,
+                                                       ChatSessionEvictor chatSessionEvictor,
+                                                       @Value("${chat.fanout.executor.core-size:4}") int coreSize,
+                                                       @Value("${chat.fanout.executor.max-size:8}") int maxSize,
+                                                       @Value("${chat.fanout.executor.queue-capacity:10000}") int queueCapacity) {
+        Counter droppedCounter = meterRegistry.counter("spinner.chat.fanout.dropped");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-outbound-");
+        executor.setRejectedExecutionHandler((runnable, pool) -> {
+            droppedCounter.increment();
+            if (runnable instanceof MessageHandlingRunnable task) {
+                chatSessionEvictor.evict(SimpMessageHeaderAccessor.getSessionId(task.getMessage().getHeaders()));
+            }
+            throw new RejectedExecutionException("chat outbound queue full");
+        });
+        executor.initialize();
+
+        meterRegistry.gauge("spinner.chat.fanout.queue.depth", executor, pool -> pool.getThreadPoolExecutor().getQueue().size());
+        return executor;
+    }
+}
@@ -1,16 +1,14 @@
 package com.spinner.www.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.spinner.www.chat.service.RedisSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -19,7 +17,6 @@ public class RedisConfig {
 
     private final RedisConnectionFactory redisConnectionFactory;
     private final ObjectMapper objectMapper;
-    private final RedisSubscriber redisSubscriber;
 
     /**
      * redis 직렬화 ,역직렬화
@@ -39,34 +36,31 @@ public class RedisConfig {
     }
 
     /**
-     * Redis pub/sub 채널 이름
-     * @return channelTopic ChannelTopic
+     * 채팅 전송 프레임 발행용 (값을 직렬화하지 않고 바이트 그대로 발행)
+     * @param connectionFactory
+     * @return
      */
     @Bean
-    public ChannelTopic channelTopic(){
-        return new ChannelTopic("SpinnerChatRoom");
+    public RedisTemplate<String, byte[]> chatFrameRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        return template;
     }
 
     /**
      * redis 컨테이너
+     * [note] 채팅방 채널은 구독자가 생길 때 ChatTopicRegistry 가 추가/해제
      * @return
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer() {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory);
-        container.addMessageListener(messageListenerAdapter(), channelTopic());
         return container;
     }
 
-    /**
-     * MessageListenerAdapter:
-     * RedisSubscriber(implements MessageListener)를 래핑
-     */
-    @Bean
-    public MessageListenerAdapter messageListenerAdapter() {
-        return new MessageListenerAdapter(redisSubscriber);
-    }
-
 
 }
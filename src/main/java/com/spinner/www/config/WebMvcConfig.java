@@ -0,0 +1,31 @@
+package com.spinner.www.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor mvcAsyncExecutor;
+    private final long asyncTimeoutMs;
+
+    public WebMvcConfig(@Qualifier("mvcAsyncExecutor") AsyncTaskExecutor mvcAsyncExecutor,
+                        @Value("${mvc.async.timeout-ms:600000}") long asyncTimeoutMs) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+        this.asyncTimeoutMs = asyncTimeoutMs;
+    }
+
+    /**
+     * 비동기 응답 스레드풀, 타임아웃 설정 (대용량 내보내기가 기본 타임아웃에 끊기지 않도록)
+     * @param configurer AsyncSupportConfigurer
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
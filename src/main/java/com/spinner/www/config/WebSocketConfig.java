@@ -1,15 +1,40 @@
 package com.spinner.www.config;
 
+import com.spinner.www.chat.service.ChatSessionEvictor;
+import com.spinner.www.config.security.StompHandshakeHandler;
+import com.spinner.www.vote.service.VoteSubscriptionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompHandshakeHandler stompHandshakeHandler;
+    private final VoteSubscriptionInterceptor voteSubscriptionInterceptor;
+    private final ChatSessionEvictor chatSessionEvictor;
+
+    @Autowired
+    @Qualifier("chatOutboundExecutor")
+    private ThreadPoolTaskExecutor chatOutboundExecutor;
+
+    @Value("${chat.fanout.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.fanout.buffer-size-limit-bytes:524288}")
+    private int bufferSizeLimit;
+
     /**
      * 메시지 브로커
      * [note] 클라이언트가 메시지를 주고받는 경로
@@ -21,6 +46,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
        registry.enableSimpleBroker("/room");
        // 서버로 메시지 보낼 때 사용하는 경로
        registry.setApplicationDestinationPrefixes("/app");
+       // 구독자 전송을 여러 스레드에서 처리해도 세션별 순서는 유지
+       registry.setPreservePublishOrder(true);
     }
 
     /**
@@ -32,8 +59,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         System.out.println("등록");
         registry.addEndpoint("/chat")
+                .setHandshakeHandler(stompHandshakeHandler)
                 .setAllowedOrigins("*");
     }
 
+    /**
+     * 클라이언트 수신 채널 인터셉터
+     * [note] 투표 집계 구독은 투표에 참여한 회원만 허용
+     * @param registration
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(voteSubscriptionInterceptor);
+    }
+
+    /**
+     * 클라이언트 전송 채널 스레드풀
+     * [note] 대기열 크기가 정해진 스레드풀로 보내고, 넘쳐서 거절된 세션은 끊는다 (spinner.chat.fanout.dropped)
+     * @param registration
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(chatOutboundExecutor);
+    }
+
+    /**
+     * STOMP 세션 전송 한도
+     * [note] 한도를 넘긴 느린 세션은 끊어서 다른 구독자 전송이 밀리지 않게 함, 전송 대기열에서 거절된 세션도 끊을 수 있도록 세션을 등록
+     * @param registration
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(bufferSizeLimit)
+                .addDecoratorFactory(chatSessionEvictor);
+    }
+
 
 }
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spinner.www.chat.io.MessageIo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -15,7 +14,6 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 public class MessageWebSocketHandler extends TextWebSocketHandler {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic chatTopic;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -0,0 +1,28 @@
+package com.spinner.www.config.security;
+
+import com.spinner.www.member.dto.SessionInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * 웹소켓 핸드셰이크 시 로그인 세션의 회원을 STOMP 세션 사용자로 지정
+ * [note] 이후 STOMP 프레임은 클라이언트가 보낸 값 대신 이 사용자로 회원을 판단
+ */
+@Component
+@RequiredArgsConstructor
+public class StompHandshakeHandler extends DefaultHandshakeHandler {
+
+    private final SessionInfo sessionInfo;
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Long memberIdx = sessionInfo.getMemberIdx();
+        return memberIdx == null ? null : new StompPrincipal(memberIdx);
+    }
+}
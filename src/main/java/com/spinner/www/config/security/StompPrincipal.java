@@ -0,0 +1,24 @@
+package com.spinner.www.config.security;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 사용자 (핸드셰이크 시점 로그인 세션의 회원 idx)
+ * @param memberIdx Long 회원 idx
+ */
+public record StompPrincipal(Long memberIdx) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(memberIdx);
+    }
+
+    /**
+     * STOMP 세션 사용자의 회원 idx
+     * @param principal Principal STOMP 세션 사용자
+     * @return Long 로그인하지 않은 세션이면 null
+     */
+    public static Long getMemberIdx(Principal principal) {
+        return principal instanceof StompPrincipal stompPrincipal ? stompPrincipal.memberIdx() : null;
+    }
+}
@@ -27,6 +27,11 @@ public enum CommonResultCode {
      */
     DUPLICATE_REPORT(40901, "이미 신고한 게시물입니다."),
 
+    /**
+     * 같은 멱등 키의 요청이 처리 중인 경우
+     */
+    REQUEST_IN_PROGRESS(40902, "이전 요청을 처리 중입니다."),
+
     /**
      * 투표 항목 밸리데이션 하나 이상
      */
@@ -0,0 +1,23 @@
+package com.spinner.www.constants;
+
+import lombok.Getter;
+
+@Getter
+public enum LikeTargetType {
+
+    /**
+     * 게시글 좋아요
+     */
+    BOARD("board_idx"),
+
+    /**
+     * 댓글 좋아요
+     */
+    REPLY("reply_idx");
+
+    private final String idxColumn;
+
+    LikeTargetType(String idxColumn) {
+        this.idxColumn = idxColumn;
+    }
+}
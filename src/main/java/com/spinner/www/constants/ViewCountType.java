@@ -0,0 +1,27 @@
+package com.spinner.www.constants;
+
+import lombok.Getter;
+
+@Getter
+public enum ViewCountType {
+
+    /**
+     * 게시글 조회수
+     */
+    BOARD("board", "board_idx", "hit_count"),
+
+    /**
+     * 스터디 조회수
+     */
+    STUDY("study", "study_idx", "study_views");
+
+    private final String tableName;
+    private final String idxColumn;
+    private final String countColumn;
+
+    ViewCountType(String tableName, String idxColumn, String countColumn) {
+        this.tableName = tableName;
+        this.idxColumn = idxColumn;
+        this.countColumn = countColumn;
+    }
+}
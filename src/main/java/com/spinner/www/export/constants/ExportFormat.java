@@ -0,0 +1,40 @@
+package com.spinner.www.export.constants;
+
+import java.util.Arrays;
+
+/**
+ * 내보내기 파일 형식
+ */
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String letter;
+    private final String contentType;
+
+    ExportFormat(String letter, String contentType) {
+        this.letter = letter;
+        this.contentType = contentType;
+    }
+
+    public String getLetter() {
+        return letter;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 형식 문자열로 조회
+     * @param letter String
+     * @return ExportFormat 없으면 null
+     */
+    public static ExportFormat getByLetter(String letter) {
+        return Arrays.stream(ExportFormat.values())
+                .filter(format -> format.letter.equalsIgnoreCase(letter))
+                .findFirst()
+                .orElse(null);
+    }
+}
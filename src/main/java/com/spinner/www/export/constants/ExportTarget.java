@@ -0,0 +1,65 @@
+package com.spinner.www.export.constants;
+
+import java.util.Arrays;
+
+/**
+ * 어드민 내보내기 대상과 평면 조회 쿼리
+ */
+public enum ExportTarget {
+
+    /**
+     * 게시글 (본문 제외, 미리보기만)
+     */
+    BOARD("boards",
+            "SELECT b.board_idx, b.code_idx, b.member_idx, m.member_nickname, b.board_title, b.board_preview,"
+                    + " b.reply_count, b.like_count, b.vote_count, b.hit_count, b.board_is_removed, b.board_is_reported,"
+                    + " b.created_date, b.modified_date"
+                    + " FROM board b JOIN member m ON m.member_idx = b.member_idx"
+                    + " ORDER BY b.board_idx"),
+
+    /**
+     * 신고
+     */
+    REPORT("reports",
+            "SELECT r.report_idx, r.report_type_idx, t.report_type_content, r.board_idx, r.member_idx,"
+                    + " r.report_is_removed, r.created_date, r.modified_date"
+                    + " FROM report r LEFT JOIN report_type t ON t.report_type_idx = r.report_type_idx"
+                    + " ORDER BY r.report_idx"),
+
+    /**
+     * 회원 (비밀번호 제외)
+     */
+    MEMBER("members",
+            "SELECT m.member_idx, mr.role_name, m.member_email, m.member_name, m.member_nickname, m.member_birth,"
+                    + " m.created_date, m.modified_date"
+                    + " FROM member m LEFT JOIN member_role mr ON mr.role_idx = m.role_idx"
+                    + " ORDER BY m.member_idx");
+
+    private final String letter;
+    private final String sql;
+
+    ExportTarget(String letter, String sql) {
+        this.letter = letter;
+        this.sql = sql;
+    }
+
+    public String getLetter() {
+        return letter;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * 경로 문자열로 대상 조회
+     * @param letter String
+     * @return ExportTarget 없으면 null
+     */
+    public static ExportTarget getByLetter(String letter) {
+        return Arrays.stream(ExportTarget.values())
+                .filter(target -> target.letter.equals(letter))
+                .findFirst()
+                .orElse(null);
+    }
+}
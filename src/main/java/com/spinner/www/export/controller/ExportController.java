@@ -0,0 +1,48 @@
+package com.spinner.www.export.controller;
+
+import com.spinner.www.export.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 어드민 데이터 내보내기 컨트롤러
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * 데이터 내보내기
+     * @param target String 내보낼 대상
+     * @param format String 파일 형식
+     * @return ResponseEntity<?> 파일 스트림
+     */
+    @Operation(description = "게시글/신고/회원 데이터를 파일로 내려받습니다. <br/>" +
+            "전체 데이터를 메모리에 올리지 않고 한 행씩 응답으로 전송합니다.<br/><br/>" +
+            "<strong>[target]</strong> <br/>" +
+            "boards  : 게시글 <br/>" +
+            "reports : 신고 <br/>" +
+            "members : 회원 <br/><br/>" +
+            "<strong>[format]</strong> <br/>" +
+            "csv    : CSV (기본값) <br/>" +
+            "ndjson : 한 줄에 JSON 객체 하나",
+            responses = {
+                    @ApiResponse(responseCode = "20000", description = "요청 성공"),
+                    @ApiResponse(responseCode = "40003", description = "올바르지 못한 요청입니다."),
+                    @ApiResponse(responseCode = "40101", description = "권한이 없습니다."),
+                    @ApiResponse(responseCode = "40301", description = "올바르지 않은 접근입니다.")
+            })
+    @GetMapping("/{target}")
+    public ResponseEntity<?> export(@PathVariable("target") String target,
+                                    @RequestParam(value = "format", required = false, defaultValue = "csv") String format) {
+        return exportService.export(target, format);
+    }
+}
@@ -0,0 +1,33 @@
+package com.spinner.www.export.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+@Repository
+@RequiredArgsConstructor
+public class ExportJdbcRepo {
+
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍한다
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전방향 읽기 전용 커서로 조회 결과를 한 행씩 처리 (전체 결과를 메모리에 올리지 않음)
+     * @param sql String 조회 쿼리
+     * @param extractor ResultSetExtractor<T> 결과 처리
+     * @return T 처리 결과
+     */
+    public <T> T stream(String sql, ResultSetExtractor<T> extractor) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            return ps;
+        }, extractor);
+    }
+}
@@ -0,0 +1,14 @@
+package com.spinner.www.export.service;
+
+import org.springframework.http.ResponseEntity;
+
+public interface ExportService {
+
+    /**
+     * 어드민 데이터 내보내기 (조회 결과를 메모리에 모으지 않고 응답으로 바로 스트리밍)
+     * @param target String 내보낼 대상 (boards, reports, members)
+     * @param format String 파일 형식 (csv, ndjson)
+     * @return ResponseEntity<?> 성공 시 StreamingResponseBody, 실패 시 CommonResponse
+     */
+    ResponseEntity<?> export(String target, String format);
+}
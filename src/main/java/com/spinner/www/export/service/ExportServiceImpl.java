@@ -0,0 +1,252 @@
+package com.spinner.www.export.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.export.constants.ExportFormat;
+import com.spinner.www.export.constants.ExportTarget;
+import com.spinner.www.export.repository.ExportJdbcRepo;
+import com.spinner.www.member.constants.RoleName;
+import com.spinner.www.member.dto.SessionInfo;
+import com.spinner.www.member.repository.MemberRepo;
+import com.spinner.www.util.ResponseVOUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter FILE_NAME_DATE = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    // 엑셀에서 한글이 깨지지 않도록 CSV 앞에 붙이는 BOM
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final SessionInfo sessionInfo;
+    private final ExportJdbcRepo exportJdbcRepo;
+    private final MemberRepo memberRepo;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 어드민 데이터 내보내기
+     * @param target String 내보낼 대상 (boards, reports, members)
+     * @param format String 파일 형식 (csv, ndjson)
+     * @return ResponseEntity<?> 성공 시 StreamingResponseBody, 실패 시 CommonResponse
+     */
+    @Override
+    public ResponseEntity<?> export(String target, String format) {
+        Long memberIdx = sessionInfo.getMemberIdx();
+        if (Objects.isNull(memberIdx))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
+
+        if (!memberRepo.existsByMemberIdxAndMemberRoleRoleName(memberIdx, RoleName.ADMIN))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
+
+        ExportTarget exportTarget = ExportTarget.getByLetter(target);
+        ExportFormat exportFormat = ExportFormat.getByLetter(format);
+        if (Objects.isNull(exportTarget) || Objects.isNull(exportFormat))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.BAD_REQUEST), HttpStatus.BAD_REQUEST);
+
+        String fileName = exportTarget.getLetter() + "-" + LocalDateTime.now().format(FILE_NAME_DATE) + "." + exportFormat.getLetter();
+        StreamingResponseBody body = outputStream -> write(exportTarget, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    /**
+     * 조회 결과를 한 행씩 응답에 기록
+     * @param target ExportTarget 내보낼 대상
+     * @param format ExportFormat 파일 형식
+     * @param outputStream OutputStream 응답 스트림
+     */
+    private void write(ExportTarget target, ExportFormat format, OutputStream outputStream) throws IOException {
+        Tags tags = Tags.of("target", target.getLetter(), "format", format.getLetter());
+        Counter byteCounter = meterRegistry.counter("spinner.export.bytes", tags);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // 응답 스트림은 프레임워크가 닫으므로 writer 는 flush 만 한다
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new CountingOutputStream(outputStream, byteCounter), StandardCharsets.UTF_8),
+                WRITE_BUFFER_SIZE);
+        try {
+            Long rowCount = exportJdbcRepo.stream(target.getSql(),
+                    resultSet -> format == ExportFormat.CSV ? writeCsv(resultSet, writer) : writeNdjson(resultSet, writer));
+            writer.flush();
+
+            meterRegistry.counter("spinner.export.rows", tags).increment(rowCount == null ? 0 : rowCount);
+            log.info("데이터 내보내기 완료 target={}, format={}, rows={}", target.getLetter(), format.getLetter(), rowCount);
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 응답 쓰기 실패
+            log.warn("데이터 내보내기 중단 target={}, format={}", target.getLetter(), format.getLetter());
+            throw e.getCause();
+        } finally {
+            sample.stop(meterRegistry.timer("spinner.export.duration", tags));
+        }
+    }
+
+    /**
+     * CSV 기록 (첫 줄은 컬럼명)
+     * @param resultSet ResultSet
+     * @param writer Writer
+     * @return long 기록한 행 수
+     */
+    private long writeCsv(ResultSet resultSet, Writer writer) throws SQLException {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+
+            boolean[] numeric = new boolean[columnCount + 1];
+
+            writer.write(UTF8_BOM);
+            for (int i = 1; i <= columnCount; i++) {
+                numeric[i] = isNumeric(metaData.getColumnType(i));
+                if (i > 1) writer.write(',');
+                writeCsvValue(writer, metaData.getColumnLabel(i), false);
+            }
+            writer.write("\r\n");
+
+            long rowCount = 0;
+            while (resultSet.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    if (i > 1) writer.write(',');
+                    // 숫자 컬럼(음수 포함)은 수식으로 해석될 일이 없으므로 그대로 기록
+                    writeCsvValue(writer, resultSet.getString(i), !numeric[i]);
+                }
+                writer.write("\r\n");
+                rowCount++;
+            }
+            return rowCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * CSV 값 기록 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+     * 사용자가 입력한 문자열이 =, +, -, @, 탭, CR 로 시작하면 엑셀에서 수식으로 실행되지 않도록 앞에 ' 를 붙인다.
+     * @param writer Writer
+     * @param value String
+     * @param escapeFormula boolean 수식 시작 문자 이스케이프 여부
+     */
+    private void writeCsvValue(Writer writer, String value, boolean escapeFormula) throws IOException {
+        if (value == null) return;
+        if (escapeFormula && isFormulaStart(value)) value = "'" + value;
+
+        boolean needQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean isFormulaStart(String value) {
+        if (value.isEmpty()) return false;
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    /**
+     * NDJSON 기록 (한 행당 JSON 객체 한 줄)
+     * @param resultSet ResultSet
+     * @param writer Writer
+     * @return long 기록한 행 수
+     */
+    private long writeNdjson(ResultSet resultSet, Writer writer) throws SQLException {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            String[] columnNames = new String[columnCount + 1];
+            boolean[] numeric = new boolean[columnCount + 1];
+            for (int i = 1; i <= columnCount; i++) {
+                columnNames[i] = metaData.getColumnLabel(i);
+                numeric[i] = isNumeric(metaData.getColumnType(i));
+            }
+
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+            long rowCount = 0;
+            while (resultSet.next()) {
+                generator.writeStartObject();
+                for (int i = 1; i <= columnCount; i++) {
+                    String value = resultSet.getString(i);
+                    generator.writeFieldName(columnNames[i]);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else if (numeric[i]) {
+                        generator.writeNumber(value);
+                    } else {
+                        generator.writeString(value);
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                rowCount++;
+            }
+            generator.flush();
+            return rowCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isNumeric(int sqlType) {
+        return switch (sqlType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+                 Types.DECIMAL, Types.NUMERIC, Types.FLOAT, Types.DOUBLE, Types.REAL -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * 응답에 기록된 바이트 수를 메트릭으로 누적 (초당 전송량 확인용)
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private final Counter byteCounter;
+
+        CountingOutputStream(OutputStream out, Counter byteCounter) {
+            super(out);
+            this.byteCounter = byteCounter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            byteCounter.increment();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            byteCounter.increment(len);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.spinner.www.util.ResponseVOUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.couchbase.CouchbaseProperties.Io;
 import org.springframework.core.io.InputStreamResource;
@@ -26,12 +27,16 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -45,6 +50,10 @@ public class FileServiceImpl implements FileService {
     @Autowired
     private ServerInfo serverInfo;
 
+    @Autowired
+    @Qualifier("fileUploadExecutor")
+    private Executor fileUploadExecutor;
+
     @Value("${file.upload.path}")
     private String FILE_PATH;
 
@@ -91,36 +100,70 @@ public class FileServiceImpl implements FileService {
     }
 
     /**
-     * 파일 서버 업로드
+     * 게시글 첨부파일 업로드
+     * 파일 저장은 fileUploadExecutor에서 동시에 처리하고, 파일 정보는 저장이 모두 끝난 뒤 한 번에 저장
      * @param files MultipartFile
-     * @return ResponseEntity<CommonResponse>
+     * @return Map<String, String> 원본 파일명 -> 파일 다운로드 주소, 실패 시 null
      */
     @Override
     public Map<String, String> uploadBoardFiles(List<MultipartFile> files) {
-        // 파일 저장 ID 확인 리스트 세팅
+        List<CompletableFuture<FileDto>> futures = files.stream()
+                .filter(file -> !file.isEmpty())
+                .map(file -> CompletableFuture.supplyAsync(() -> storeFile(file), fileUploadExecutor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            log.error("게시글 파일 업로드 실패", e.getCause());
+            // 저장에 성공한 파일은 DB에 남지 않으므로 삭제
+            futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .forEach(this::deleteStoredFile);
+            return null;
+        }
+
+        List<FileDto> fileDtoList = futures.stream().map(CompletableFuture::join).toList();
+        List<Files> fileEntities = fileDtoList.stream().map(fileMapper::fileDtoToFile).toList();
+        fileRepo.saveAll(fileEntities);
+
         Map<String, String> fileMap = new HashMap<>();
+        for (int i = 0; i < fileEntities.size(); i++) {
+            fileMap.put(fileDtoList.get(i).getFileOriginName(), serverInfo.getServerUrlWithPort() + "/common/file/" + fileEntities.get(i).getFileIdx());
+        }
+        return fileMap;
+    }
 
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                try {
-                    //(1) 파일 서버 저장
-                    //(1-1) 폴더가 없으면 폴더 생성
-                    String fileUploadPath = fileUploadFolderUpdate(file, FILE_PATH);
-                    Long fileTypeCodeIdx = getContentTypeCodeIdx(file);
-                    //(1-2) 파일 저장
-                    FileDto fileDto = convertFileDto(file, fileUploadPath, fileTypeCodeIdx);
-                    String fileUploadPathName = fileUploadPath + "/" + fileDto.getFileConvertName();
-                    file.transferTo(new File(fileUploadPathName));
-                    Files fileEntity = fileMapper.fileDtoToFile(fileDto);
-                    Long fileIdx = saveFile(fileEntity);
-                    fileMap.put(fileDto.getFileOriginName(), serverInfo.getServerUrlWithPort() + "/common/file/"+fileIdx);
-                } catch (IOException e) {
-                    return null;
-                }
-            }
+    /**
+     * 파일 서버 저장
+     * @param file MultipartFile
+     * @return FileDto 저장된 파일 정보
+     */
+    private FileDto storeFile(MultipartFile file) {
+        try {
+            //(1-1) 폴더가 없으면 폴더 생성
+            String fileUploadPath = fileUploadFolderUpdate(file, FILE_PATH);
+            Long fileTypeCodeIdx = getContentTypeCodeIdx(file);
+            //(1-2) 파일 저장
+            FileDto fileDto = convertFileDto(file, fileUploadPath, fileTypeCodeIdx);
+            file.transferTo(new File(fileUploadPath + "/" + fileDto.getFileConvertName()));
+            return fileDto;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        return fileMap;
+    /**
+     * 서버에 저장된 파일 삭제
+     * @param fileDto FileDto
+     */
+    private void deleteStoredFile(FileDto fileDto) {
+        try {
+            java.nio.file.Files.deleteIfExists(Paths.get(fileDto.getFilePath(), fileDto.getFileConvertName()));
+        } catch (IOException e) {
+            log.warn("업로드 실패 파일 정리 중 오류 path={}", fileDto.getFilePath(), e);
+        }
     }
 
     /**
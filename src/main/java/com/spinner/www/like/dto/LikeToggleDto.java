@@ -0,0 +1,12 @@
+package com.spinner.www.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LikeToggleDto {
+    private Long memberIdx;
+    private Long targetIdx;
+    private boolean liked;
+}
@@ -11,7 +11,13 @@ import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", indexes = {
+        @Index(name = "idx_likes_board", columnList = "boardIdx, likeIsLiked"),
+        @Index(name = "idx_likes_reply", columnList = "replyIdx, likeIsLiked")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_member_board", columnNames = {"memberIdx", "boardIdx"}),
+        @UniqueConstraint(name = "uk_likes_member_reply", columnNames = {"memberIdx", "replyIdx"})
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,136 @@
+package com.spinner.www.like.repository;
+
+import com.spinner.www.constants.LikeTargetType;
+import com.spinner.www.like.dto.LikeToggleDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 같은 유저/대상의 중복 좋아요 중 가장 먼저 생성된 행만 남기고 삭제
+     * @return int 삭제된 행 수
+     */
+    public int deleteDuplicates() {
+        int deleted = jdbcTemplate.update("DELETE l1 FROM likes l1 JOIN likes l2"
+                + " ON l1.member_idx = l2.member_idx AND l1.board_idx = l2.board_idx AND l1.like_idx > l2.like_idx");
+        deleted += jdbcTemplate.update("DELETE l1 FROM likes l1 JOIN likes l2"
+                + " ON l1.member_idx = l2.member_idx AND l1.reply_idx = l2.reply_idx AND l1.like_idx > l2.like_idx");
+        return deleted;
+    }
+
+    /**
+     * likes 테이블 인덱스 존재 여부
+     * @param indexName String 인덱스 이름
+     * @return boolean
+     */
+    public boolean existsIndex(String indexName) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM information_schema.statistics"
+                + " WHERE table_schema = DATABASE() AND table_name = 'likes' AND index_name = ?)", Boolean.class, indexName);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * likes 테이블 유니크 키 추가
+     * @param indexName String 유니크 키 이름
+     * @param columns String 유니크 키 컬럼 (쉼표 구분)
+     */
+    public void addUniqueKey(String indexName, String columns) {
+        jdbcTemplate.execute("ALTER TABLE likes ADD UNIQUE KEY " + indexName + " (" + columns + ")");
+    }
+
+    /**
+     * 대상별 좋아요 누른 회원 idx 조회
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList Collection<Long> 대상 idx 목록
+     * @param consumer BiConsumer<Long, Long> (대상 idx, 회원 idx)
+     */
+    public void findLikers(LikeTargetType type, Collection<Long> targetIdxList, BiConsumer<Long, Long> consumer) {
+        if (targetIdxList.isEmpty()) return;
+
+        String column = type.getIdxColumn();
+        namedParameterJdbcTemplate.query("SELECT " + column + ", member_idx FROM likes"
+                        + " WHERE " + column + " IN (:targetIdxList) AND like_is_liked = 1",
+                Map.of("targetIdxList", targetIdxList),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    /**
+     * 회원의 대상 좋아요 여부 (DB 저장값)
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean
+     */
+    public boolean isLiked(LikeTargetType type, Long targetIdx, Long memberIdx) {
+        List<Integer> rows = jdbcTemplate.queryForList("SELECT like_is_liked FROM likes"
+                + " WHERE member_idx = ? AND " + type.getIdxColumn() + " = ?", Integer.class, memberIdx, targetIdx);
+        return !rows.isEmpty() && rows.get(0) != null && rows.get(0) == 1;
+    }
+
+    /**
+     * 좋아요 대상이 속한 게시글 idx (삭제된 대상이면 조회되지 않음)
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @return Long 게시글 idx, 대상이 없으면 null
+     */
+    public Long findBoardIdx(LikeTargetType type, Long targetIdx) {
+        String sql = type == LikeTargetType.BOARD
+                ? "SELECT board_idx FROM board WHERE board_idx = ? AND board_is_removed = 0"
+                : "SELECT r.board_idx FROM reply r JOIN board b ON b.board_idx = r.board_idx"
+                + " WHERE r.reply_idx = ? AND r.reply_is_removed = 0 AND b.board_is_removed = 0";
+        List<Long> rows = jdbcTemplate.queryForList(sql, Long.class, targetIdx);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * (회원, 대상) 목록의 현재 좋아요 여부 조회 (행이 없는 대상은 제외)
+     * @param type LikeTargetType 좋아요 대상
+     * @param toggles List<LikeToggleDto> 조회할 (회원, 대상) 목록
+     * @return List<LikeToggleDto> 저장된 좋아요 여부
+     */
+    public List<LikeToggleDto> findStates(LikeTargetType type, List<LikeToggleDto> toggles) {
+        if (toggles.isEmpty()) return List.of();
+
+        String column = type.getIdxColumn();
+        List<Object[]> pairs = toggles.stream()
+                .map(toggle -> new Object[]{toggle.getMemberIdx(), toggle.getTargetIdx()})
+                .toList();
+        return namedParameterJdbcTemplate.query("SELECT member_idx, " + column + ", like_is_liked FROM likes"
+                        + " WHERE (member_idx, " + column + ") IN (:pairs)",
+                Map.of("pairs", pairs),
+                (rs, rowNum) -> new LikeToggleDto(rs.getLong(1), rs.getLong(2), rs.getInt(3) == 1));
+    }
+
+    /**
+     * 좋아요 여부 일괄 저장 (없으면 생성, 있으면 덮어쓰기)
+     * @param type LikeTargetType 좋아요 대상
+     * @param toggles List<LikeToggleDto> 저장할 (회원, 대상, 좋아요 여부) 목록
+     */
+    public void upsertAll(LikeTargetType type, List<LikeToggleDto> toggles) {
+        if (toggles.isEmpty()) return;
+
+        String sql = "INSERT INTO likes (member_idx, " + type.getIdxColumn() + ", like_is_liked, created_at, created_date, modified_at, modified_date)"
+                + " VALUES (?, ?, ?, ?, NOW(), ?, NOW())"
+                + " ON DUPLICATE KEY UPDATE like_is_liked = VALUES(like_is_liked), modified_at = VALUES(modified_at), modified_date = NOW()";
+
+        List<Object[]> params = new ArrayList<>(toggles.size());
+        toggles.forEach(toggle -> params.add(new Object[]{
+                toggle.getMemberIdx(), toggle.getTargetIdx(), toggle.isLiked() ? 1 : 0, toggle.getMemberIdx(), toggle.getMemberIdx()}));
+        jdbcTemplate.batchUpdate(sql, params);
+    }
+}
@@ -0,0 +1,48 @@
+package com.spinner.www.like.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.spinner.www.like.entity.QLike.like;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeQueryRepo {
+    private final JPAQueryFactory jpaQueryFactory;
+    private final int IS_LIKE = 1;
+    // IN 절 하나에 넣을 최대 idx 수
+    private final int IN_BATCH_SIZE = 1000;
+
+    /**
+     * 댓글별 좋아요 수 조회
+     * @param replyIdxList List<Long> 댓글 idx 목록
+     * @return Map<Long, Long> 댓글 idx 별 좋아요 수 (좋아요 없는 댓글은 제외)
+     */
+    public Map<Long, Long> getReplyLikeCountMap(List<Long> replyIdxList) {
+        Map<Long, Long> result = new HashMap<>();
+        for (List<Long> batch : partition(replyIdxList)) {
+            List<Tuple> rows = jpaQueryFactory.select(like.replyIdx, like.count())
+                    .from(like)
+                    .where(like.replyIdx.in(batch), like.likeIsLiked.eq(IS_LIKE))
+                    .groupBy(like.replyIdx)
+                    .fetch();
+            rows.forEach(row -> result.put(row.get(like.replyIdx), row.get(like.count())));
+        }
+        return result;
+    }
+
+    private List<List<Long>> partition(List<Long> idxList) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int i = 0; i < idxList.size(); i += IN_BATCH_SIZE) {
+            batches.add(idxList.subList(i, Math.min(i + IN_BATCH_SIZE, idxList.size())));
+        }
+        return batches;
+    }
+}
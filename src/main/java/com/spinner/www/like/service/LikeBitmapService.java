@@ -0,0 +1,36 @@
+package com.spinner.www.like.service;
+
+import com.spinner.www.constants.LikeTargetType;
+
+import java.util.List;
+import java.util.Set;
+
+public interface LikeBitmapService {
+
+    /**
+     * 회원이 좋아요 누른 대상 idx 조회
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList List<Long> 대상 idx 목록
+     * @param memberIdx Long 회원 idx
+     * @return Set<Long> 좋아요 누른 대상 idx
+     */
+    Set<Long> getLikedIdx(LikeTargetType type, List<Long> targetIdxList, Long memberIdx);
+
+    /**
+     * 회원의 대상 좋아요 여부
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean
+     */
+    boolean isLiked(LikeTargetType type, Long targetIdx, Long memberIdx);
+
+    /**
+     * 좋아요 변경 반영 (트랜잭션 커밋 이후)
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param memberIdx Long 회원 idx
+     * @param liked boolean 좋아요 여부
+     */
+    void apply(LikeTargetType type, Long targetIdx, Long memberIdx, boolean liked);
+}
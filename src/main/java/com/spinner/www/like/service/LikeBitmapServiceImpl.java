@@ -0,0 +1,205 @@
+package com.spinner.www.like.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.spinner.www.constants.LikeTargetType;
+import com.spinner.www.like.dto.LikeToggleDto;
+import com.spinner.www.like.repository.LikeJdbcRepo;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대상별 좋아요 누른 회원 idx 비트맵
+ * 페이지의 대상 비트맵을 한 번에 적재하고, 좋아요 토글은 커밋 이후 비트맵에 바로 반영한다.
+ * 다른 서버에서 발생한 토글은 만료 시간 안에 다시 적재되며 반영된다.
+ * 적재 시 아직 DB에 반영되지 않은 버퍼의 좋아요를 덮어써서 본인이 누른 좋아요가 바로 보이도록 한다.
+ * 적재 중인 대상에 토글이 들어오면 적재 결과가 토글 이전 상태일 수 있으므로, 토글 순번을 기록해 두고 그보다 먼저 시작된 적재 결과는 다시 적재한다.
+ */
+@Service
+public class LikeBitmapServiceImpl implements LikeBitmapService {
+
+    private final LikeJdbcRepo likeJdbcRepo;
+    private final LikeBufferService likeBufferService;
+    private final LoadingCache<LikeTarget, LoadedBitmap> bitmaps;
+    // 적재되지 않은 대상에 들어온 토글 순번 (이보다 먼저 시작된 적재 결과는 오래된 값)
+    private final Cache<LikeTarget, Long> missedUpdates;
+    private final AtomicLong updateSeq = new AtomicLong();
+
+    public LikeBitmapServiceImpl(LikeJdbcRepo likeJdbcRepo,
+                                 LikeBufferService likeBufferService,
+                                 @Value("${like.bitmap.max-targets:100000}") long maxTargets,
+                                 @Value("${like.bitmap.ttl-seconds:300}") long ttlSeconds) {
+        this.likeJdbcRepo = likeJdbcRepo;
+        this.likeBufferService = likeBufferService;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxTargets)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(new CacheLoader<>() {
+                    @Override
+                    public LoadedBitmap load(LikeTarget key) {
+                        return loadAll(Set.of(key)).get(key);
+                    }
+
+                    @Override
+                    public Map<LikeTarget, LoadedBitmap> loadAll(Set<? extends LikeTarget> keys) {
+                        return LikeBitmapServiceImpl.this.loadAll(keys);
+                    }
+                });
+        // 만료 시간이 지나면 그 이전에 적재된 값도 모두 만료되므로 같은 시간만 보관
+        this.missedUpdates = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 회원이 좋아요 누른 대상 idx 조회
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList List<Long> 대상 idx 목록
+     * @param memberIdx Long 회원 idx
+     * @return Set<Long> 좋아요 누른 대상 idx
+     */
+    @Override
+    public Set<Long> getLikedIdx(LikeTargetType type, List<Long> targetIdxList, Long memberIdx) {
+        Set<Long> result = new HashSet<>();
+        if (memberIdx == null || targetIdxList.isEmpty()) return result;
+
+        List<LikeTarget> keys = targetIdxList.stream().map(targetIdx -> new LikeTarget(type, targetIdx)).toList();
+        getBitmaps(keys).forEach((key, bitmap) -> {
+            if (contains(bitmap, memberIdx)) result.add(key.targetIdx());
+        });
+        return result;
+    }
+
+    /**
+     * 회원의 대상 좋아요 여부
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean
+     */
+    @Override
+    public boolean isLiked(LikeTargetType type, Long targetIdx, Long memberIdx) {
+        if (memberIdx == null || targetIdx == null) return false;
+        LikeTarget key = new LikeTarget(type, targetIdx);
+        return contains(getBitmaps(List.of(key)).get(key), memberIdx);
+    }
+
+    /**
+     * 좋아요 변경 반영 (트랜잭션 커밋 이후)
+     * 적재되지 않은 대상은 캐시에서 제거하고 토글 순번을 남겨, 동시에 진행 중인 적재 결과가 남지 않게 한다.
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param memberIdx Long 회원 idx
+     * @param liked boolean 좋아요 여부
+     */
+    @Override
+    public void apply(LikeTargetType type, Long targetIdx, Long memberIdx, boolean liked) {
+        LikeTarget key = new LikeTarget(type, targetIdx);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(key, memberIdx, liked);
+                }
+            });
+            return;
+        }
+        update(key, memberIdx, liked);
+    }
+
+    private void update(LikeTarget key, Long memberIdx, boolean liked) {
+        long seq = updateSeq.incrementAndGet();
+        LoadedBitmap loaded = bitmaps.getIfPresent(key);
+        if (loaded == null) {
+            missedUpdates.put(key, seq);
+            bitmaps.invalidate(key);
+            return;
+        }
+
+        Roaring64Bitmap bitmap = loaded.bitmap();
+        synchronized (bitmap) {
+            if (liked) bitmap.addLong(memberIdx);
+            else bitmap.removeLong(memberIdx);
+        }
+    }
+
+    /**
+     * 대상 비트맵 조회 (놓친 토글보다 먼저 적재된 비트맵은 다시 적재)
+     * @param keys Collection<LikeTarget>
+     * @return Map<LikeTarget, Roaring64Bitmap>
+     */
+    private Map<LikeTarget, Roaring64Bitmap> getBitmaps(Collection<LikeTarget> keys) {
+        Map<LikeTarget, LoadedBitmap> loaded = bitmaps.getAll(keys);
+
+        List<LikeTarget> stale = new ArrayList<>();
+        loaded.forEach((key, bitmap) -> {
+            Long missedSeq = missedUpdates.getIfPresent(key);
+            if (missedSeq != null && missedSeq > bitmap.loadSeq()) stale.add(key);
+        });
+        if (!stale.isEmpty()) {
+            bitmaps.invalidateAll(stale);
+            loaded = new HashMap<>(loaded);
+            loaded.putAll(bitmaps.getAll(stale));
+        }
+
+        Map<LikeTarget, Roaring64Bitmap> result = new HashMap<>();
+        loaded.forEach((key, bitmap) -> result.put(key, bitmap.bitmap()));
+        return result;
+    }
+
+    private boolean contains(Roaring64Bitmap bitmap, Long memberIdx) {
+        synchronized (bitmap) {
+            return bitmap.contains(memberIdx);
+        }
+    }
+
+    /**
+     * 대상 비트맵 일괄 적재 (좋아요가 없는 대상은 빈 비트맵, 미반영 버퍼 적용)
+     * @param keys Set<LikeTarget>
+     * @return Map<LikeTarget, LoadedBitmap>
+     */
+    private Map<LikeTarget, LoadedBitmap> loadAll(Set<? extends LikeTarget> keys) {
+        // DB 조회 전 순번을 잡아 두어, 조회 이후 들어온 토글은 순번이 더 크게 남는다
+        long loadSeq = updateSeq.get();
+        Map<LikeTarget, Roaring64Bitmap> result = new HashMap<>();
+        Map<LikeTargetType, List<Long>> targetIdxByType = new EnumMap<>(LikeTargetType.class);
+        for (LikeTarget key : keys) {
+            result.put(key, new Roaring64Bitmap());
+            targetIdxByType.computeIfAbsent(key.type(), type -> new ArrayList<>()).add(key.targetIdx());
+        }
+
+        targetIdxByType.forEach((type, targetIdxList) -> {
+            likeJdbcRepo.findLikers(type, targetIdxList,
+                    (targetIdx, memberIdx) -> result.get(new LikeTarget(type, targetIdx)).addLong(memberIdx));
+
+            for (LikeToggleDto pending : likeBufferService.getPendingList(type, targetIdxList)) {
+                Roaring64Bitmap bitmap = result.get(new LikeTarget(type, pending.getTargetIdx()));
+                if (bitmap == null) continue;
+                if (pending.isLiked()) bitmap.addLong(pending.getMemberIdx());
+                else bitmap.removeLong(pending.getMemberIdx());
+            }
+        });
+
+        Map<LikeTarget, LoadedBitmap> loaded = new HashMap<>();
+        result.forEach((key, bitmap) -> {
+            bitmap.runOptimize();
+            loaded.put(key, new LoadedBitmap(bitmap, loadSeq));
+        });
+        return loaded;
+    }
+
+    private record LikeTarget(LikeTargetType type, Long targetIdx) {
+    }
+
+    private record LoadedBitmap(Roaring64Bitmap bitmap, long loadSeq) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.spinner.www.like.service;
+
+import com.spinner.www.constants.LikeTargetType;
+import com.spinner.www.like.dto.LikeToggleDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface LikeBufferService {
+
+    /**
+     * 좋아요 토글 (메모리 버퍼에 적재 후 주기적으로 DB 반영)
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param boardIdx Long 대상이 속한 게시글 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean 토글 후 좋아요 여부
+     */
+    boolean toggle(LikeTargetType type, Long targetIdx, Long boardIdx, Long memberIdx);
+
+    /**
+     * 아직 DB에 반영되지 않은 대상 좋아요 여부 목록
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList Collection<Long> 대상 idx 목록
+     * @return List<LikeToggleDto> (회원, 대상, 좋아요 여부)
+     */
+    List<LikeToggleDto> getPendingList(LikeTargetType type, Collection<Long> targetIdxList);
+
+    /**
+     * 아직 DB에 반영되지 않은 대상별 좋아요수 증감분
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList Collection<Long> 대상 idx 목록
+     * @return Map<Long, Long> 대상 idx 별 증감분
+     */
+    Map<Long, Long> getPendingDeltas(LikeTargetType type, Collection<Long> targetIdxList);
+
+    /**
+     * 게시글(및 댓글) 좋아요 마지막 토글 순번 (ETag 용)
+     * @param boardIdx Long 게시글 idx
+     * @return long 토글이 없으면 0
+     */
+    long getPendingStamp(Long boardIdx);
+
+    /**
+     * 버퍼에 쌓인 좋아요 DB 반영
+     */
+    void flush();
+}
@@ -0,0 +1,279 @@
+package com.spinner.www.like.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spinner.www.board.repository.BoardCountJdbcRepo;
+import com.spinner.www.board.service.BoardHotRankService;
+import com.spinner.www.constants.LikeTargetType;
+import com.spinner.www.like.dto.LikeToggleDto;
+import com.spinner.www.like.repository.LikeJdbcRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeBufferServiceImpl implements LikeBufferService {
+
+    private static final long STAMP_MAX_BOARDS = 100_000;
+    private static final Duration STAMP_TTL = Duration.ofMinutes(10);
+
+    private final LikeJdbcRepo likeJdbcRepo;
+    private final BoardCountJdbcRepo boardCountJdbcRepo;
+    private final BoardHotRankService boardHotRankService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${like.buffer.batch-size:500}")
+    private int batchSize;
+
+    // 대상 idx -> (회원 idx -> 마지막 좋아요 여부). 처음 상태로 돌아오면(짝수 번 토글) 버퍼에서 제거되어 DB에 쓰지 않는다
+    // 안쪽 맵은 바깥 맵의 compute 안에서만 수정한다 (대상 단위 잠금)
+    private final Map<LikeTargetType, ConcurrentHashMap<Long, Map<Long, PendingLike>>> buffers = new EnumMap<>(LikeTargetType.class);
+    // 버퍼에서 꺼내 DB에 쓰는 중인 좋아요 (커밋 전 조회에도 보이도록 유지)
+    private final Map<LikeTargetType, ConcurrentHashMap<Long, Map<Long, PendingLike>>> flushing = new EnumMap<>(LikeTargetType.class);
+
+    // 게시글별 마지막 토글 순번 (DB 버전이 오르기 전에도 ETag 가 바뀌도록)
+    private final AtomicLong stampSeq = new AtomicLong();
+    private final Cache<Long, Long> stamps = Caffeine.newBuilder()
+            .maximumSize(STAMP_MAX_BOARDS)
+            .expireAfterWrite(STAMP_TTL)
+            .build();
+
+    {
+        for (LikeTargetType type : LikeTargetType.values()) {
+            buffers.put(type, new ConcurrentHashMap<>());
+            flushing.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 좋아요 토글 (메모리 버퍼에 적재 후 주기적으로 DB 반영)
+     * 버퍼에 없으면 반영 중인 값, 그것도 없으면 DB 값을 기준으로 뒤집는다 (서버마다 다른 비트맵에 의존하지 않음).
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param boardIdx Long 대상이 속한 게시글 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean 토글 후 좋아요 여부
+     */
+    @Override
+    public boolean toggle(LikeTargetType type, Long targetIdx, Long boardIdx, Long memberIdx) {
+        ConcurrentHashMap<Long, Map<Long, PendingLike>> buffer = buffers.get(type);
+
+        // DB 조회는 잠금 밖에서 (잠금 안에서 버퍼 값이 생겼으면 그 값을 우선)
+        PendingLike buffered = get(buffer, targetIdx, memberIdx);
+        boolean current;
+        if (buffered != null) {
+            current = buffered.liked();
+        } else {
+            PendingLike inFlight = get(flushing.get(type), targetIdx, memberIdx);
+            current = inFlight != null ? inFlight.liked() : likeJdbcRepo.isLiked(type, targetIdx, memberIdx);
+        }
+
+        boolean[] result = new boolean[1];
+        buffer.compute(targetIdx, (key, members) -> {
+            if (members == null) members = new ConcurrentHashMap<>();
+            PendingLike pending = members.get(memberIdx);
+            boolean base = pending == null ? current : pending.base();
+            boolean liked = pending == null ? !current : !pending.liked();
+            result[0] = liked;
+
+            if (liked == base) members.remove(memberIdx);
+            else members.put(memberIdx, new PendingLike(base, liked));
+            return members.isEmpty() ? null : members;
+        });
+
+        if (boardIdx != null) stamps.put(boardIdx, stampSeq.incrementAndGet());
+        return result[0];
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 대상 좋아요 여부 목록 (반영 중인 좋아요 포함)
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList Collection<Long> 대상 idx 목록
+     * @return List<LikeToggleDto> (회원, 대상, 좋아요 여부)
+     */
+    @Override
+    public List<LikeToggleDto> getPendingList(LikeTargetType type, Collection<Long> targetIdxList) {
+        List<LikeToggleDto> result = new ArrayList<>();
+        for (Long targetIdx : targetIdxList) {
+            getPending(type, targetIdx).forEach((memberIdx, pending) ->
+                    result.add(new LikeToggleDto(memberIdx, targetIdx, pending.liked())));
+        }
+        return result;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 대상별 좋아요수 증감분
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdxList Collection<Long> 대상 idx 목록
+     * @return Map<Long, Long> 대상 idx 별 증감분 (증감이 없는 대상은 제외)
+     */
+    @Override
+    public Map<Long, Long> getPendingDeltas(LikeTargetType type, Collection<Long> targetIdxList) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Long targetIdx : targetIdxList) {
+            long delta = 0;
+            for (PendingLike pending : getPending(type, targetIdx).values()) {
+                delta += (pending.liked() ? 1 : 0) - (pending.base() ? 1 : 0);
+            }
+            if (delta != 0) result.put(targetIdx, delta);
+        }
+        return result;
+    }
+
+    /**
+     * 게시글(및 댓글) 좋아요 마지막 토글 순번
+     * @param boardIdx Long 게시글 idx
+     * @return long 토글이 없으면 0
+     */
+    @Override
+    public long getPendingStamp(Long boardIdx) {
+        Long stamp = stamps.getIfPresent(boardIdx);
+        return stamp == null ? 0L : stamp;
+    }
+
+    /**
+     * 버퍼에 쌓인 좋아요 DB 반영
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${like.buffer.flush-interval-ms:200}")
+    public void flush() {
+        for (LikeTargetType type : LikeTargetType.values()) {
+            flush(type);
+        }
+    }
+
+    /**
+     * 종료 전 남은 좋아요 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 대상별 버퍼 DB 반영
+     * @param type LikeTargetType 좋아요 대상
+     */
+    private synchronized void flush(LikeTargetType type) {
+        ConcurrentHashMap<Long, Map<Long, PendingLike>> buffer = buffers.get(type);
+        ConcurrentHashMap<Long, Map<Long, PendingLike>> inFlight = flushing.get(type);
+
+        // 반영 중 목록에 먼저 넣고 버퍼에서 제거 (두 곳 모두에 없는 순간이 없도록)
+        for (Long targetIdx : buffer.keySet()) {
+            buffer.computeIfPresent(targetIdx, (key, members) -> {
+                inFlight.compute(key, (k, flushingMembers) -> {
+                    Map<Long, PendingLike> merged = flushingMembers == null ? new ConcurrentHashMap<>() : flushingMembers;
+                    merged.putAll(members);
+                    return merged;
+                });
+                return null;
+            });
+        }
+        if (inFlight.isEmpty()) return;
+
+        List<LikeToggleDto> entries = new ArrayList<>();
+        inFlight.forEach((targetIdx, members) -> members.forEach((memberIdx, pending) ->
+                entries.add(new LikeToggleDto(memberIdx, targetIdx, pending.liked()))));
+
+        for (int i = 0; i < entries.size(); i += batchSize) {
+            List<LikeToggleDto> batch = entries.subList(i, Math.min(i + batchSize, entries.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(type, batch));
+            } catch (RuntimeException e) {
+                log.error("좋아요 반영 실패 type={}, size={}", type, batch.size(), e);
+                // 반영하지 못한 좋아요는 다음 주기에 다시 시도
+                batch.forEach(toggle -> requeue(type, toggle));
+            }
+            // 커밋(또는 버퍼로 되돌린) 좋아요는 반영 중 목록에서 바로 제거 (DB 값과 중복 집계되지 않도록)
+            batch.forEach(toggle -> inFlight.computeIfPresent(toggle.getTargetIdx(), (key, members) -> {
+                members.remove(toggle.getMemberIdx());
+                return members.isEmpty() ? null : members;
+            }));
+        }
+    }
+
+    /**
+     * 좋아요 여부가 실제로 바뀐 (회원, 대상)만 저장하고 게시글 좋아요수/버전 반영
+     * @param type LikeTargetType 좋아요 대상
+     * @param toggles List<LikeToggleDto> 반영할 좋아요
+     */
+    private void write(LikeTargetType type, List<LikeToggleDto> toggles) {
+        Set<LikeKey> persistedLiked = likeJdbcRepo.findStates(type, toggles).stream()
+                .filter(LikeToggleDto::isLiked)
+                .map(state -> new LikeKey(state.getMemberIdx(), state.getTargetIdx()))
+                .collect(Collectors.toSet());
+
+        List<LikeToggleDto> changed = toggles.stream()
+                .filter(toggle -> persistedLiked.contains(new LikeKey(toggle.getMemberIdx(), toggle.getTargetIdx())) != toggle.isLiked())
+                .toList();
+        if (changed.isEmpty()) return;
+
+        likeJdbcRepo.upsertAll(type, changed);
+
+        if (type == LikeTargetType.BOARD) {
+            Map<Long, Long> deltaMap = new HashMap<>();
+            changed.forEach(toggle -> deltaMap.merge(toggle.getTargetIdx(), toggle.isLiked() ? 1L : -1L, Long::sum));
+            boardCountJdbcRepo.increaseLikeCountAll(deltaMap);
+            deltaMap.keySet().forEach(boardHotRankService::markDirty);
+        } else {
+            boardCountJdbcRepo.increaseVersionByReplyIdxAll(changed.stream().map(LikeToggleDto::getTargetIdx).collect(Collectors.toSet()));
+        }
+    }
+
+    /**
+     * 반영 실패한 좋아요를 버퍼에 되돌림
+     * 그 사이 같은 (회원, 대상)에 토글이 있었다면 실패한 좋아요의 처음 상태를 기준으로 합친다.
+     */
+    private void requeue(LikeTargetType type, LikeToggleDto toggle) {
+        PendingLike failed = get(flushing.get(type), toggle.getTargetIdx(), toggle.getMemberIdx());
+        if (failed == null) return;
+
+        buffers.get(type).compute(toggle.getTargetIdx(), (key, members) -> {
+            if (members == null) members = new ConcurrentHashMap<>();
+            PendingLike newer = members.get(toggle.getMemberIdx());
+            if (newer == null) members.put(toggle.getMemberIdx(), failed);
+            else if (newer.liked() == failed.base()) members.remove(toggle.getMemberIdx());
+            else members.put(toggle.getMemberIdx(), new PendingLike(failed.base(), newer.liked()));
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    /**
+     * 대상의 미반영 좋아요 (반영 중인 값 위에 버퍼 값을 덮어씀, 처음 상태는 반영 중인 값 기준)
+     */
+    private Map<Long, PendingLike> getPending(LikeTargetType type, Long targetIdx) {
+        Map<Long, PendingLike> result = new HashMap<>();
+        Map<Long, PendingLike> inFlight = flushing.get(type).get(targetIdx);
+        if (inFlight != null) result.putAll(inFlight);
+
+        Map<Long, PendingLike> buffered = buffers.get(type).get(targetIdx);
+        if (buffered != null) {
+            buffered.forEach((memberIdx, pending) -> result.merge(memberIdx, pending,
+                    (flushingLike, bufferedLike) -> new PendingLike(flushingLike.base(), bufferedLike.liked())));
+        }
+        return result;
+    }
+
+    private PendingLike get(Map<Long, Map<Long, PendingLike>> map, Long targetIdx, Long memberIdx) {
+        Map<Long, PendingLike> members = map.get(targetIdx);
+        return members == null ? null : members.get(memberIdx);
+    }
+
+    private record LikeKey(Long memberIdx, Long targetIdx) {
+    }
+
+    private record PendingLike(boolean base, boolean liked) {
+    }
+}
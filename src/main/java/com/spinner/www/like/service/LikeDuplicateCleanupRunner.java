@@ -0,0 +1,37 @@
+package com.spinner.www.like.service;
+
+import com.spinner.www.like.repository.LikeJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유니크 키 추가 이전에 쌓인 중복 좋아요 정리
+ * 중복이 남아 있으면 hbm2ddl 이 유니크 키를 만들지 못하므로, 정리 후 빠진 유니크 키를 직접 추가한다.
+ * 좋아요 저장(ON DUPLICATE KEY UPDATE)은 이 유니크 키에 의존한다.
+ * 좋아요수는 게시글 카운터 보정 작업에서 다시 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeDuplicateCleanupRunner implements ApplicationRunner {
+
+    private final LikeJdbcRepo likeJdbcRepo;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int deleted = likeJdbcRepo.deleteDuplicates();
+        if (deleted > 0) log.info("중복 좋아요 정리 deleted={}", deleted);
+
+        addUniqueKeyIfAbsent("uk_likes_member_board", "member_idx, board_idx");
+        addUniqueKeyIfAbsent("uk_likes_member_reply", "member_idx, reply_idx");
+    }
+
+    private void addUniqueKeyIfAbsent(String indexName, String columns) {
+        if (likeJdbcRepo.existsIndex(indexName)) return;
+        likeJdbcRepo.addUniqueKey(indexName, columns);
+        log.info("좋아요 유니크 키 추가 index={}", indexName);
+    }
+}
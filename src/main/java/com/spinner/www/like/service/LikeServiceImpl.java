@@ -2,21 +2,19 @@ package com.spinner.www.like.service;
 
 import com.spinner.www.common.io.CommonResponse;
 import com.spinner.www.constants.CommonResultCode;
-import com.spinner.www.like.entity.Like;
+import com.spinner.www.constants.LikeTargetType;
 import com.spinner.www.like.io.LikeBoardResponse;
 import com.spinner.www.like.io.LikeReplyResponse;
-import com.spinner.www.like.mapper.LikeMapper;
-import com.spinner.www.like.repository.LikeRepo;
+import com.spinner.www.like.repository.LikeJdbcRepo;
+import com.spinner.www.member.dto.MemberProfileDto;
 import com.spinner.www.member.dto.SessionInfo;
-import com.spinner.www.member.entity.Member;
-import com.spinner.www.member.service.MemberService;
+import com.spinner.www.member.service.MemberProfileCache;
 import com.spinner.www.util.ResponseVOUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Objects;
 
 @RequiredArgsConstructor
@@ -24,11 +22,14 @@ import java.util.Objects;
 public class LikeServiceImpl implements LikeService {
 
     private final SessionInfo sessionInfo;
-    private final LikeRepo likeRepo;
-    private final MemberService memberService;
-    private final LikeMapper likeMapper;
+    private final MemberProfileCache memberProfileCache;
+    private final LikeBitmapService likeBitmapService;
+    private final LikeBufferService likeBufferService;
+    private final LikeJdbcRepo likeJdbcRepo;
+
     /**
-     * 좋아요 생성 또는 업데이트
+     * 게시글 좋아요 토글
+     * 버퍼에 적재 후 주기적으로 DB 반영 (연속 클릭은 (회원, 게시글) 단위로 합쳐진다)
      * @param boardIdx Long
      * @return ResponseEntity<CommonResponse> 좋아요 상세 정보
      */
@@ -38,23 +39,29 @@ public class LikeServiceImpl implements LikeService {
         if (Objects.isNull(memberIdx))
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
 
-        Member member = memberService.getMember(memberIdx);
-        if (Objects.isNull(member))
+        MemberProfileDto profile = memberProfileCache.getProfile(memberIdx);
+        if (Objects.isNull(profile))
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
 
-        List<Like> likes = this.findByBoardIdx(boardIdx);
+        // 없거나 삭제된 대상은 버퍼에 쌓지 않는다
+        Long targetBoardIdx = likeJdbcRepo.findBoardIdx(LikeTargetType.BOARD, boardIdx);
+        if (Objects.isNull(targetBoardIdx))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
 
-        Like like = likes.stream().filter(val -> val.getMember().getMemberIdx().equals(memberIdx)).findFirst().orElse(null);
+        boolean liked = this.toggle(LikeTargetType.BOARD, boardIdx, targetBoardIdx, memberIdx);
 
-        if(Objects.isNull(like)) {
-            return this.insertBoard(boardIdx);
-        }
+        LikeBoardResponse response = LikeBoardResponse.builder()
+                .isLiked(liked ? 1 : 0)
+                .nickname(profile.getMemberNickname())
+                .boardIdx(boardIdx)
+                .build();
 
-        return this.update(like);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
     }
 
     /**
-     * 좋아요 생성 또는 업데이트
+     * 댓글 좋아요 토글
+     * 버퍼에 적재 후 주기적으로 DB 반영 (연속 클릭은 (회원, 댓글) 단위로 합쳐진다)
      * @param replyIdx Long
      * @return ResponseEntity<CommonResponse> 좋아요 상세 정보
      */
@@ -64,103 +71,38 @@ public class LikeServiceImpl implements LikeService {
         if (Objects.isNull(memberIdx))
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
 
-        Member member = memberService.getMember(memberIdx);
-        if (Objects.isNull(member))
+        MemberProfileDto profile = memberProfileCache.getProfile(memberIdx);
+        if (Objects.isNull(profile))
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
 
-        List<Like> likes = this.findByReplyIdx(replyIdx);
+        // 없거나 삭제된 대상은 버퍼에 쌓지 않는다
+        Long targetBoardIdx = likeJdbcRepo.findBoardIdx(LikeTargetType.REPLY, replyIdx);
+        if (Objects.isNull(targetBoardIdx))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
 
-        Like like = likes.stream().filter(val -> val.getMember().getMemberIdx().equals(memberIdx)).findFirst().orElse(null);
-
-        if(Objects.isNull(like)) {
-            return this.insertReply(replyIdx);
-        }
-
-        return this.update(like);
-    }
+        boolean liked = this.toggle(LikeTargetType.REPLY, replyIdx, targetBoardIdx, memberIdx);
 
-    /**
-     * 좋아요 생성
-     * @param boardIdx Long
-     * @return ResponseEntity<CommonResponse> 좋아요 상세 정보
-     */
-    @Override
-    public ResponseEntity<CommonResponse> insertBoard(Long boardIdx) {
-        Long memberIdx = sessionInfo.getMemberIdx();
-        Member member = memberService.getMember(memberIdx);
-
-        Like like = Like.builder()
-                .member(member)
-                .boardIdx(boardIdx)
-                .likeIsLiked(1)
-                .build();
-
-        likeRepo.save(like);
-
-        LikeBoardResponse response = likeMapper.likeToLikeBoardResponse(like);
-
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.CREATED);
-    }
-
-    /**
-     * 좋아요 생성
-     * @param replyIdx Long
-     * @return ResponseEntity<CommonResponse> 좋아요 상세 정보
-     */
-    @Override
-    public ResponseEntity<CommonResponse> insertReply(Long replyIdx) {
-        Long memberIdx = sessionInfo.getMemberIdx();
-        Member member = memberService.getMember(memberIdx);
-
-        Like like = Like.builder()
-                .member(member)
+        LikeReplyResponse response = LikeReplyResponse.builder()
+                .isLiked(liked ? 1 : 0)
+                .nickname(profile.getMemberNickname())
                 .replyIdx(replyIdx)
-                .likeIsLiked(1)
                 .build();
 
-        likeRepo.save(like);
-
-        LikeReplyResponse response = likeMapper.likeToLikeReplyResponse(like);
-
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.CREATED);
-    }
-
-
-    @Override
-    public List<Like> findByBoardIdx(Long boardIdx) {
-        return likeRepo.findByBoardIdx(boardIdx);
-    }
-
-    @Override
-    public List<Like> findByReplyIdx(Long boardIdx) {
-        return likeRepo.findByReplyIdx(boardIdx);
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
     }
 
     /**
-     * 좋아요 수정
-     * @param like Like
-     * @return ResponseEntity<CommonResponse> 좋아요 상세 정보
+     * 버퍼/DB 기준으로 토글 후 비트맵에 바로 반영
+     * (서버별 비트맵은 다른 서버의 토글이 늦게 보일 수 있으므로 기준으로 쓰지 않는다)
+     * @param type LikeTargetType 좋아요 대상
+     * @param targetIdx Long 대상 idx
+     * @param boardIdx Long 대상이 속한 게시글 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean 토글 후 좋아요 여부
      */
-    @Override
-    public ResponseEntity<CommonResponse> update(Like like) {
-        Long memberIdx = sessionInfo.getMemberIdx();
-        Member member = memberService.getMember(memberIdx);
-
-        if (!Objects.equals(like.getMember(), member))
-            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
-
-        like.update();
-        likeRepo.save(like);
-
-        if(Objects.isNull(like.getBoardIdx())){
-            LikeReplyResponse response = likeMapper.likeToLikeReplyResponse(like);
-
-            return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
-        }else {
-
-            LikeBoardResponse response = likeMapper.likeToLikeBoardResponse(like);
-
-            return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(response), HttpStatus.OK);
-        }
+    private boolean toggle(LikeTargetType type, Long targetIdx, Long boardIdx, Long memberIdx) {
+        boolean liked = likeBufferService.toggle(type, targetIdx, boardIdx, memberIdx);
+        likeBitmapService.apply(type, targetIdx, memberIdx, liked);
+        return liked;
     }
 }
@@ -0,0 +1,23 @@
+package com.spinner.www.member.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+/**
+ * 응답 조립에 쓰이는 회원 표시 정보 (이름, 닉네임, 프로필 사진)
+ */
+@Getter
+public class MemberProfileDto {
+    private Long memberIdx;
+    private String memberName;
+    private String memberNickname;
+    private Long memberFileIdx;
+
+    @QueryProjection
+    public MemberProfileDto(Long memberIdx, String memberName, String memberNickname, Long memberFileIdx) {
+        this.memberIdx = memberIdx;
+        this.memberName = memberName;
+        this.memberNickname = memberNickname;
+        this.memberFileIdx = memberFileIdx;
+    }
+}
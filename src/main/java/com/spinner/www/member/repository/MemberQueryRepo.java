@@ -0,0 +1,48 @@
+package com.spinner.www.member.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spinner.www.member.dto.MemberProfileDto;
+import com.spinner.www.member.dto.QMemberProfileDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.spinner.www.member.entity.QMember.member;
+import static com.spinner.www.member.entity.QMemberFile.memberFile;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberQueryRepo {
+    private final JPAQueryFactory jpaQueryFactory;
+    // IN 절 하나에 넣을 최대 idx 수
+    private final int IN_BATCH_SIZE = 1000;
+
+    /**
+     * 회원 표시 정보 일괄 조회 (프로필 사진이 여러 장이면 마지막으로 등록한 사진)
+     * @param memberIdxList Collection<Long> 회원 idx 목록
+     * @return List<MemberProfileDto> 없는 회원은 제외
+     */
+    public List<MemberProfileDto> getProfiles(Collection<Long> memberIdxList) {
+        List<Long> idxList = new ArrayList<>(memberIdxList);
+        List<MemberProfileDto> result = new ArrayList<>(idxList.size());
+
+        for (int i = 0; i < idxList.size(); i += IN_BATCH_SIZE) {
+            List<Long> batch = idxList.subList(i, Math.min(i + IN_BATCH_SIZE, idxList.size()));
+            result.addAll(jpaQueryFactory.select(new QMemberProfileDto(
+                            member.memberIdx,
+                            member.memberName,
+                            member.memberNickname,
+                            memberFile.memberFileIdx.max()
+                    ))
+                    .from(member)
+                    .leftJoin(memberFile).on(memberFile.member.eq(member))
+                    .where(member.memberIdx.in(batch))
+                    .groupBy(member.memberIdx, member.memberName, member.memberNickname)
+                    .fetch());
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.spinner.www.member.repository;
 
+import com.spinner.www.member.constants.RoleName;
 import com.spinner.www.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -20,4 +21,12 @@ public interface MemberRepo extends JpaRepository<Member, Long> {
      * @return User
      */
     Member findByMemberEmail(String memberEmail);
+
+    /**
+     * 권한 보유 여부
+     * @param memberIdx Long 회원 idx
+     * @param roleName RoleName 권한
+     * @return boolean
+     */
+    boolean existsByMemberIdxAndMemberRoleRoleName(Long memberIdx, RoleName roleName);
 }
@@ -0,0 +1,36 @@
+package com.spinner.www.member.service;
+
+import com.spinner.www.member.dto.MemberProfileDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface MemberProfileCache {
+
+    /**
+     * 회원 표시 정보 일괄 조회 (캐시에 없는 회원만 한 번에 DB 조회)
+     * @param memberIdxList Collection<Long> 회원 idx 목록
+     * @return Map<Long, MemberProfileDto> 회원 idx 별 표시 정보 (없는 회원은 제외)
+     */
+    Map<Long, MemberProfileDto> getProfiles(Collection<Long> memberIdxList);
+
+    /**
+     * 회원 닉네임 일괄 조회
+     * @param memberIdxList Collection<Long> 회원 idx 목록
+     * @return Map<Long, String> 회원 idx 별 닉네임 (없는 회원은 제외)
+     */
+    Map<Long, String> getNicknames(Collection<Long> memberIdxList);
+
+    /**
+     * 회원 표시 정보 조회
+     * @param memberIdx Long 회원 idx
+     * @return MemberProfileDto 없으면 null
+     */
+    MemberProfileDto getProfile(Long memberIdx);
+
+    /**
+     * 회원 표시 정보 캐시 무효화 (트랜잭션 커밋 이후)
+     * @param memberIdx Long 회원 idx
+     */
+    void invalidate(Long memberIdx);
+}
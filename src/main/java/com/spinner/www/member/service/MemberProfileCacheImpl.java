@@ -0,0 +1,103 @@
+package com.spinner.www.member.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.spinner.www.member.dto.MemberProfileDto;
+import com.spinner.www.member.repository.MemberQueryRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 표시 정보 캐시
+ * 응답 조립 시 회원을 한 명씩 지연 로딩하지 않고, 캐시에 없는 회원만 모아 한 번에 조회한다.
+ * 다른 서버에서 바뀐 정보는 만료 시간 안에 반영된다.
+ */
+@Service
+public class MemberProfileCacheImpl implements MemberProfileCache {
+
+    private final MemberQueryRepo memberQueryRepo;
+    private final LoadingCache<Long, MemberProfileDto> profiles;
+
+    public MemberProfileCacheImpl(MemberQueryRepo memberQueryRepo,
+                                  @Value("${member.profile-cache.max-size:50000}") long maxSize,
+                                  @Value("${member.profile-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.memberQueryRepo = memberQueryRepo;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(new CacheLoader<>() {
+                    @Override
+                    public MemberProfileDto load(Long memberIdx) {
+                        return loadAll(Set.of(memberIdx)).get(memberIdx);
+                    }
+
+                    @Override
+                    public Map<Long, MemberProfileDto> loadAll(Set<? extends Long> memberIdxSet) {
+                        return memberQueryRepo.getProfiles(new ArrayList<>(memberIdxSet)).stream()
+                                .collect(Collectors.toMap(MemberProfileDto::getMemberIdx, profile -> profile));
+                    }
+                });
+    }
+
+    /**
+     * 회원 표시 정보 일괄 조회 (캐시에 없는 회원만 한 번에 DB 조회)
+     * @param memberIdxList Collection<Long> 회원 idx 목록
+     * @return Map<Long, MemberProfileDto> 회원 idx 별 표시 정보 (없는 회원은 제외)
+     */
+    @Override
+    public Map<Long, MemberProfileDto> getProfiles(Collection<Long> memberIdxList) {
+        Set<Long> memberIdxSet = memberIdxList.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (memberIdxSet.isEmpty()) return Map.of();
+        return profiles.getAll(memberIdxSet);
+    }
+
+    /**
+     * 회원 닉네임 일괄 조회
+     * @param memberIdxList Collection<Long> 회원 idx 목록
+     * @return Map<Long, String> 회원 idx 별 닉네임 (없는 회원은 제외)
+     */
+    @Override
+    public Map<Long, String> getNicknames(Collection<Long> memberIdxList) {
+        Map<Long, String> result = new HashMap<>();
+        getProfiles(memberIdxList).forEach((memberIdx, profile) -> result.put(memberIdx, profile.getMemberNickname()));
+        return result;
+    }
+
+    /**
+     * 회원 표시 정보 조회
+     * @param memberIdx Long 회원 idx
+     * @return MemberProfileDto 없으면 null
+     */
+    @Override
+    public MemberProfileDto getProfile(Long memberIdx) {
+        return memberIdx == null ? null : profiles.get(memberIdx);
+    }
+
+    /**
+     * 회원 표시 정보 캐시 무효화 (트랜잭션 커밋 이후)
+     * @param memberIdx Long 회원 idx
+     */
+    @Override
+    public void invalidate(Long memberIdx) {
+        if (memberIdx == null) return;
+
+        // 커밋 전에 무효화하면 다른 요청이 바뀌기 전 값을 다시 적재할 수 있으므로 커밋 이후 처리
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    profiles.invalidate(memberIdx);
+                }
+            });
+            return;
+        }
+        profiles.invalidate(memberIdx);
+    }
+}
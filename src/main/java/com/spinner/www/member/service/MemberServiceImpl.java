@@ -48,6 +48,7 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRoleService memberRoleService;
     private final FileService fileService;
     private final MemberFileRepo memberFileRepo;
+    private final MemberProfileCache memberProfileCache;
     private final ServiceTermsRepo serviceTermsRepo;
     private final MarketingRepo marketingRepo;
     private final MenuRepo menuRepo;
@@ -126,6 +127,7 @@ public class MemberServiceImpl implements MemberService {
         Files files = fileService.getFiles(idxs.get(0));
         MemberFile memberFile = MemberFile.insertMemberFile(member, files);
         memberFileRepo.save(memberFile);
+        memberProfileCache.invalidate(member.getMemberIdx());
 
         // 마케팅 수신 동의 저장
         List<ServiceTerms> serviceTermsList = serviceTermsRepo.findByServiceTermsIsUse(true);
@@ -91,6 +91,61 @@ public class ReplyRestController {
         return replyService.delete(boardType, replyIdx);
     }
 
+    /**
+     * 게시글 댓글 목록 조회
+     * @param boardType String
+     * @param boardIdx Long 게시글 idx
+     * @param idx Long 이전 페이지 마지막 댓글 idx
+     * @param size int 최상위 댓글 갯수
+     * @param childSize int 부모 댓글당 대댓글 갯수
+     * @return ResponseEntity<CommonResponse> 댓글 목록
+     */
+    @Operation(description = "게시글의 댓글을 페이지 단위로 조회합니다. <br/>" +
+            "idx 이후의 최상위 댓글 size개와 각 댓글의 앞쪽 대댓글 childSize개를 반환합니다. <br/>" +
+            "childCursor가 있으면 대댓글이 더 있으며, 대댓글 조회 API의 idx로 전달합니다.<br/><br/>" +
+            "<strong>[boardType]</strong> <br/>" +
+            "verify : 공부인증글 <br/>" +
+            "free   : 자유글",
+            responses = {
+                    @ApiResponse(content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "20000", description = "요청 성공"),
+                    @ApiResponse(responseCode = "50001", description = "데이터를 찾을 수 없음.")
+            })
+    @GetMapping("/{boardType}/board/{boardIdx}")
+    public ResponseEntity<CommonResponse> findByBoard(@PathVariable("boardType") String boardType,
+                                                      @PathVariable("boardIdx") Long boardIdx,
+                                                      @RequestParam(value = "idx", required = false) Long idx,
+                                                      @RequestParam(value = "size", required = false, defaultValue = "20") int size,
+                                                      @RequestParam(value = "childSize", required = false, defaultValue = "3") int childSize) {
+        return replyService.getReplies(boardType, boardIdx, idx, size, childSize);
+    }
+
+    /**
+     * 대댓글 목록 조회
+     * @param boardType String
+     * @param replyIdx Long 부모 댓글 idx
+     * @param idx Long 이전 페이지 마지막 대댓글 idx
+     * @param size int 조회 갯수
+     * @return ResponseEntity<CommonResponse> 대댓글 목록
+     */
+    @Operation(description = "댓글의 대댓글을 페이지 단위로 조회합니다. <br/>" +
+            "idx 이후의 대댓글 size개를 반환합니다.<br/><br/>" +
+            "<strong>[boardType]</strong> <br/>" +
+            "verify : 공부인증글 <br/>" +
+            "free   : 자유글",
+            responses = {
+                    @ApiResponse(content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "20000", description = "요청 성공"),
+                    @ApiResponse(responseCode = "50001", description = "데이터를 찾을 수 없음.")
+            })
+    @GetMapping("/{boardType}/{replyIdx}/children")
+    public ResponseEntity<CommonResponse> findChildren(@PathVariable("boardType") String boardType,
+                                                       @PathVariable("replyIdx") Long replyIdx,
+                                                       @RequestParam(value = "idx", required = false) Long idx,
+                                                       @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        return replyService.getChildReplies(boardType, replyIdx, idx, size);
+    }
+
     /**
      * 좋아요
      * @param boardType String
@@ -0,0 +1,15 @@
+package com.spinner.www.reply.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 부모 댓글별 대댓글 조회 결과 (native query 프로젝션)
+ */
+public interface ReplyChildRow {
+    Long getReplyIdx();
+    Long getReplyParentIdx();
+    String getReplyContent();
+    Long getMemberIdx();
+    LocalDateTime getCreatedDate();
+    LocalDateTime getModifiedDate();
+}
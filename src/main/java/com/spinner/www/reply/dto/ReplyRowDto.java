@@ -0,0 +1,30 @@
+package com.spinner.www.reply.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ReplyRowDto {
+    private Long replyIdx;
+    private Long replyParentIdx;
+    private String replyContent;
+    private int replyIsRemoved;
+    private Long memberIdx;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+    private int replyChildCount;
+
+    @QueryProjection
+    public ReplyRowDto(Long replyIdx, Long replyParentIdx, String replyContent, Integer replyIsRemoved, Long memberIdx, LocalDateTime createdDate, LocalDateTime modifiedDate, Integer replyChildCount) {
+        this.replyIdx = replyIdx;
+        this.replyParentIdx = replyParentIdx;
+        this.replyContent = replyContent;
+        this.replyIsRemoved = replyIsRemoved;
+        this.memberIdx = memberIdx;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+        this.replyChildCount = replyChildCount == null ? 0 : replyChildCount;
+    }
+}
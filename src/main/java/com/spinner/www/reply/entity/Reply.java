@@ -10,15 +10,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
 @Entity
-@Table(name = "reply")
+@Table(name = "reply", indexes = {
+        @Index(name = "idx_reply_board", columnList = "boardIdx, replyIsRemoved"),
+        @Index(name = "idx_reply_parent", columnList = "replyParentIdx, replyIsRemoved, replyIdx")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
+@DynamicUpdate
 @Comment("댓글 테이블")
 public class Reply extends BaseEntity {
 
@@ -48,6 +53,11 @@ public class Reply extends BaseEntity {
     @Comment("부모 댓글 식별자")
     private Long replyParentIdx;
 
+    @ColumnDefault("0")
+    @Comment("삭제되지 않은 대댓글수")
+    @Column(nullable = false)
+    private int replyChildCount;
+
     @OneToMany(mappedBy = "replyParentIdx",
             fetch = FetchType.LAZY)
     private List<Reply> childReplies;
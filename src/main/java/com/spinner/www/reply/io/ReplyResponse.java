@@ -1,6 +1,7 @@
 package com.spinner.www.reply.io;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.spinner.www.common.io.BaseResponse;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,13 @@ public class ReplyResponse extends BaseResponse {
     private List<ReplyResponse> childReplies;
     private Long likeCount;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer childCount;
+
+    // 대댓글이 더 있을 때 다음 대댓글 조회 커서 (마지막 대댓글 idx)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long childCursor;
+
     @JsonProperty("isLiked")
     private boolean isLiked;
 
@@ -0,0 +1,88 @@
+package com.spinner.www.reply.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spinner.www.reply.dto.QReplyRowDto;
+import com.spinner.www.reply.dto.ReplyRowDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.spinner.www.reply.entity.QReply.reply;
+
+@Repository
+@RequiredArgsConstructor
+public class ReplyQueryRepo {
+    private final JPAQueryFactory jpaQueryFactory;
+    private final int NOT_REMOVED = 0;
+
+    /**
+     * 게시글의 전체 댓글/대댓글 조회 (삭제된 댓글 포함)
+     * @param boardIdx Long 게시글 idx
+     * @return List<ReplyRowDto>
+     */
+    public List<ReplyRowDto> getRepliesByBoardIdx(Long boardIdx) {
+        return jpaQueryFactory.select(replyRowProjection())
+                .from(reply)
+                .where(reply.boardIdx.eq(boardIdx))
+                .orderBy(reply.replyIdx.asc())
+                .fetch();
+    }
+
+    /**
+     * 게시글의 최상위 댓글 페이지 조회 (idx 오름차순 커서)
+     * 삭제된 댓글은 남은 대댓글이 있을 때만 포함
+     * @param boardIdx Long 게시글 idx
+     * @param idx Long 이전 페이지 마지막 댓글 idx
+     * @param size int 조회 갯수
+     * @return List<ReplyRowDto>
+     */
+    public List<ReplyRowDto> getTopLevelReplies(Long boardIdx, @Nullable Long idx, int size) {
+        return jpaQueryFactory.select(replyRowProjection())
+                .from(reply)
+                .where(reply.boardIdx.eq(boardIdx),
+                        reply.replyParentIdx.isNull(),
+                        reply.replyIsRemoved.eq(NOT_REMOVED).or(reply.replyChildCount.gt(0)),
+                        gtReplyIdx(idx))
+                .orderBy(reply.replyIdx.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 대댓글 페이지 조회 (idx 오름차순 커서, 삭제된 대댓글 제외)
+     * @param parentIdx Long 부모 댓글 idx
+     * @param idx Long 이전 페이지 마지막 대댓글 idx
+     * @param size int 조회 갯수
+     * @return List<ReplyRowDto>
+     */
+    public List<ReplyRowDto> getChildReplies(Long parentIdx, @Nullable Long idx, int size) {
+        return jpaQueryFactory.select(replyRowProjection())
+                .from(reply)
+                .where(reply.replyParentIdx.eq(parentIdx),
+                        reply.replyIsRemoved.eq(NOT_REMOVED),
+                        gtReplyIdx(idx))
+                .orderBy(reply.replyIdx.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanBuilder gtReplyIdx(@Nullable Long idx) {
+        return idx == null ? new BooleanBuilder() : new BooleanBuilder(reply.replyIdx.gt(idx));
+    }
+
+    private QReplyRowDto replyRowProjection() {
+        return new QReplyRowDto(
+                reply.replyIdx,
+                reply.replyParentIdx,
+                reply.replyContent,
+                reply.replyIsRemoved,
+                reply.member.memberIdx,
+                reply.createdDate,
+                reply.modifiedDate,
+                reply.replyChildCount
+        );
+    }
+}
@@ -1,9 +1,14 @@
 package com.spinner.www.reply.repository;
 
+import com.spinner.www.reply.dto.ReplyChildRow;
 import com.spinner.www.reply.entity.Reply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +19,32 @@ public interface ReplyRepo extends JpaRepository<Reply, Long> {
      * @return Reply
      */
     Optional<Reply> findByReplyIdxAndReplyIsRemoved(Long replyIdx, int isRemove);
+
+    /**
+     * 대댓글수 증감
+     * @param replyIdx Long 부모 댓글 idx
+     * @param delta int 증감값
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Reply r SET r.replyChildCount = r.replyChildCount + :delta WHERE r.replyIdx = :replyIdx")
+    int increaseChildCount(@Param("replyIdx") Long replyIdx, @Param("delta") int delta);
+
+    /**
+     * 부모 댓글별 앞쪽 대댓글을 최대 limit 개씩 한 번에 조회 (삭제된 대댓글 제외)
+     * @param parentIdxList List<Long> 부모 댓글 idx 목록
+     * @param limit int 부모 댓글당 최대 갯수
+     * @return List<ReplyChildRow> 부모 idx, 대댓글 idx 오름차순
+     */
+    @Query(value = "SELECT t.reply_idx AS replyIdx, t.reply_parent_idx AS replyParentIdx, t.reply_content AS replyContent,"
+            + " t.member_idx AS memberIdx,"
+            + " t.created_date AS createdDate, t.modified_date AS modifiedDate"
+            + " FROM (SELECT r.reply_idx, r.reply_parent_idx, r.reply_content, r.member_idx, r.created_date, r.modified_date,"
+            + "       ROW_NUMBER() OVER (PARTITION BY r.reply_parent_idx ORDER BY r.reply_idx) AS rn"
+            + "       FROM reply r"
+            + "       WHERE r.reply_parent_idx IN (:parentIdxList) AND r.reply_is_removed = 0) t"
+            + " WHERE t.rn <= :limit"
+            + " ORDER BY t.reply_parent_idx, t.reply_idx",
+            nativeQuery = true)
+    List<ReplyChildRow> findFirstChildren(@Param("parentIdxList") List<Long> parentIdxList, @Param("limit") int limit);
 }
@@ -48,4 +48,25 @@ public interface ReplyService {
      * @return ResponseEntity<CommonResponse> 삭제 응답 결과
      */
     ResponseEntity<CommonResponse> upsertLike(String boardType, Long replyIdx);
+
+    /**
+     * 게시글 댓글 페이지 조회 (최상위 댓글 + 부모 댓글별 앞쪽 대댓글)
+     * @param boardType String 게시판 타입
+     * @param boardIdx Long 게시글 idx
+     * @param idx Long 이전 페이지 마지막 댓글 idx
+     * @param size int 최상위 댓글 갯수
+     * @param childSize int 부모 댓글당 대댓글 갯수
+     * @return ResponseEntity<CommonResponse> 댓글 목록
+     */
+    ResponseEntity<CommonResponse> getReplies(String boardType, Long boardIdx, Long idx, int size, int childSize);
+
+    /**
+     * 대댓글 페이지 조회
+     * @param boardType String 게시판 타입
+     * @param replyIdx Long 부모 댓글 idx
+     * @param idx Long 이전 페이지 마지막 대댓글 idx
+     * @param size int 조회 갯수
+     * @return ResponseEntity<CommonResponse> 대댓글 목록
+     */
+    ResponseEntity<CommonResponse> getChildReplies(String boardType, Long replyIdx, Long idx, int size);
 }
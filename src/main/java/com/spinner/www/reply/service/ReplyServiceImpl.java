@@ -3,19 +3,29 @@ package com.spinner.www.reply.service;
 import com.spinner.www.board.constants.CommonBoardCode;
 import com.spinner.www.common.io.CommonResponse;
 import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.constants.LikeTargetType;
+import com.spinner.www.like.service.LikeBitmapService;
+import com.spinner.www.like.service.LikeBufferService;
 import com.spinner.www.like.service.LikeService;
 import com.spinner.www.member.dto.SessionInfo;
 import com.spinner.www.member.entity.Member;
+import com.spinner.www.member.service.MemberProfileCache;
 import com.spinner.www.member.service.MemberService;
 import com.spinner.www.board.entity.Board;
+import com.spinner.www.board.repository.BoardRepo;
+import com.spinner.www.board.service.BoardHotRankService;
 import com.spinner.www.board.service.BoardService;
+import com.spinner.www.like.repository.LikeQueryRepo;
+import com.spinner.www.reply.dto.ReplyChildRow;
 import com.spinner.www.reply.dto.ReplyCreateDto;
+import com.spinner.www.reply.dto.ReplyRowDto;
 import com.spinner.www.reply.dto.ReplyUpdateDto;
 import com.spinner.www.reply.entity.Reply;
 import com.spinner.www.reply.io.ReplyCreateRequest;
 import com.spinner.www.reply.io.ReplyResponse;
 import com.spinner.www.reply.io.ReplyUpdateRequest;
 import com.spinner.www.reply.mapper.ReplyMapper;
+import com.spinner.www.reply.repository.ReplyQueryRepo;
 import com.spinner.www.reply.repository.ReplyRepo;
 import com.spinner.www.util.ResponseVOUtils;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +34,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -33,9 +48,21 @@ public class ReplyServiceImpl implements ReplyService {
     private final SessionInfo sessionInfo;
     private final ReplyRepo replyRepo;
     private final MemberService memberService;
+    private final MemberProfileCache memberProfileCache;
     private final BoardService boardService;
     private final ReplyMapper replyMapper;
     private final LikeService likeService;
+    private final BoardRepo boardRepo;
+    private final BoardHotRankService boardHotRankService;
+    private final ReplyQueryRepo replyQueryRepo;
+    private final LikeQueryRepo likeQueryRepo;
+    private final LikeBitmapService likeBitmapService;
+    private final LikeBufferService likeBufferService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHILD_SIZE = 50;
+    private static final String REMOVED_REPLY_CONTENT = "삭제된 댓글입니다.";
+
     /**
      * 댓글 생성
      * @param boardType String
@@ -43,6 +70,7 @@ public class ReplyServiceImpl implements ReplyService {
      * @return ResponseEntity<CommonResponse> 댓글 상세 정보
      */
     @Override
+    @Transactional
     public ResponseEntity<CommonResponse> insert(String boardType, ReplyCreateRequest replyRequest) {
         Long codeIdx = CommonBoardCode.getCode(boardType);
         Long memberIdx = sessionInfo.getMemberIdx();
@@ -66,6 +94,10 @@ public class ReplyServiceImpl implements ReplyService {
                 .build();
 
         replyRepo.save(reply);
+        boardRepo.increaseReplyCount(board.getBoardIdx(), 1);
+        if (Objects.nonNull(replyParentIdx))
+            replyRepo.increaseChildCount(replyParentIdx, 1);
+        boardHotRankService.markDirty(board.getBoardIdx());
         ReplyResponse response = ReplyResponse.builder()
                 .nickname(member.getMemberNickname())
                 .idx(reply.getReplyIdx())
@@ -119,6 +151,7 @@ public class ReplyServiceImpl implements ReplyService {
 
         ReplyUpdateDto replyDto = replyMapper.replyUpdateRequestToReplyUpdateDto(replyRequest);
         reply.update(replyDto.getReplyContent());
+        boardRepo.increaseVersion(boardIdx);
         ReplyResponse response = ReplyResponse.builder()
                 .nickname(member.getMemberNickname())
                 .idx(reply.getReplyIdx())
@@ -165,12 +198,141 @@ public class ReplyServiceImpl implements ReplyService {
 
 
         reply.delete();
+        boardRepo.increaseReplyCount(board.getBoardIdx(), -1);
+        if (Objects.nonNull(reply.getReplyParentIdx()))
+            replyRepo.increaseChildCount(reply.getReplyParentIdx(), -1);
+        boardHotRankService.markDirty(board.getBoardIdx());
 
         return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(), HttpStatus.OK);
     }
 
 
 
+    /**
+     * 게시글 댓글 페이지 조회
+     * 최상위 댓글은 idx 커서로 size 개, 대댓글은 부모 댓글별 앞쪽 childSize 개를 한 번의 쿼리로 조회
+     *
+     * @param boardType String 게시판 타입
+     * @param boardIdx Long 게시글 idx
+     * @param idx Long 이전 페이지 마지막 댓글 idx
+     * @param size int 최상위 댓글 갯수
+     * @param childSize int 부모 댓글당 대댓글 갯수
+     * @return ResponseEntity<CommonResponse> 댓글 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<CommonResponse> getReplies(String boardType, Long boardIdx, Long idx, int size, int childSize) {
+        Long codeIdx = CommonBoardCode.getCode(boardType);
+        Board board = boardService.findByBoardIdx(codeIdx, boardIdx);
+        if (Objects.isNull(board))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int childPageSize = Math.min(Math.max(childSize, 0), MAX_CHILD_SIZE);
+
+        List<ReplyRowDto> parents = replyQueryRepo.getTopLevelReplies(boardIdx, idx, pageSize);
+        List<Long> parentIdxList = parents.stream()
+                .filter(parent -> parent.getReplyChildCount() > 0)
+                .map(ReplyRowDto::getReplyIdx)
+                .toList();
+
+        List<ReplyChildRow> children = childPageSize == 0 || parentIdxList.isEmpty()
+                ? List.of()
+                : replyRepo.findFirstChildren(parentIdxList, childPageSize);
+        Map<Long, List<ReplyChildRow>> childMap = children.stream()
+                .collect(Collectors.groupingBy(ReplyChildRow::getReplyParentIdx));
+
+        List<Long> replyIdxList = new ArrayList<>(parents.size() + children.size());
+        parents.forEach(parent -> replyIdxList.add(parent.getReplyIdx()));
+        children.forEach(child -> replyIdxList.add(child.getReplyIdx()));
+        Map<Long, Long> likeCountMap = likeQueryRepo.getReplyLikeCountMap(replyIdxList);
+        // 아직 DB에 반영되지 않은 좋아요 증감분 포함
+        likeBufferService.getPendingDeltas(LikeTargetType.REPLY, replyIdxList).forEach((idx, delta) -> likeCountMap.merge(idx, delta, Long::sum));
+        Set<Long> likedReplyIdx = likeBitmapService.getLikedIdx(LikeTargetType.REPLY, replyIdxList, sessionInfo.getMemberIdx());
+
+        List<Long> writerIdxList = new ArrayList<>(parents.size() + children.size());
+        parents.forEach(parent -> writerIdxList.add(parent.getMemberIdx()));
+        children.forEach(child -> writerIdxList.add(child.getMemberIdx()));
+        Map<Long, String> nicknameMap = memberProfileCache.getNicknames(writerIdxList);
+
+        List<ReplyResponse> responses = parents.stream().map(parent -> {
+            List<ReplyChildRow> childRows = childMap.getOrDefault(parent.getReplyIdx(), List.of());
+            // 대댓글이 더 남아 있으면 마지막으로 내려준 대댓글 idx (없으면 0)를 커서로 전달
+            Long childCursor = childRows.size() < parent.getReplyChildCount()
+                    ? (childRows.isEmpty() ? 0L : childRows.get(childRows.size() - 1).getReplyIdx())
+                    : null;
+
+            return ReplyResponse.builder()
+                    .idx(parent.getReplyIdx())
+                    .nickname(nicknameMap.get(parent.getMemberIdx()))
+                    .content(parent.getReplyIsRemoved() == 0 ? parent.getReplyContent() : REMOVED_REPLY_CONTENT)
+                    .likeCount(likeCountMap.getOrDefault(parent.getReplyIdx(), 0L))
+                    .isLiked(likedReplyIdx.contains(parent.getReplyIdx()))
+                    .createdDate(parent.getCreatedDate())
+                    .modifiedDate(parent.getModifiedDate())
+                    .childCount(parent.getReplyChildCount())
+                    .childCursor(childCursor)
+                    .childReplies(childRows.stream()
+                            .map(child -> ReplyResponse.builder()
+                                    .idx(child.getReplyIdx())
+                                    .nickname(nicknameMap.get(child.getMemberIdx()))
+                                    .content(child.getReplyContent())
+                                    .likeCount(likeCountMap.getOrDefault(child.getReplyIdx(), 0L))
+                                    .isLiked(likedReplyIdx.contains(child.getReplyIdx()))
+                                    .createdDate(child.getCreatedDate())
+                                    .modifiedDate(child.getModifiedDate())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build();
+        }).collect(Collectors.toList());
+
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(responses), HttpStatus.OK);
+    }
+
+    /**
+     * 대댓글 페이지 조회
+     *
+     * @param boardType String 게시판 타입
+     * @param replyIdx Long 부모 댓글 idx
+     * @param idx Long 이전 페이지 마지막 대댓글 idx
+     * @param size int 조회 갯수
+     * @return ResponseEntity<CommonResponse> 대댓글 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<CommonResponse> getChildReplies(String boardType, Long replyIdx, Long idx, int size) {
+        Long codeIdx = CommonBoardCode.getCode(boardType);
+
+        // 삭제된 댓글도 남은 대댓글은 조회할 수 있어야 하므로 삭제 여부와 관계없이 조회
+        Reply parent = replyRepo.findById(replyIdx).orElse(null);
+        if (Objects.isNull(parent) || Objects.isNull(boardService.findByBoardIdx(codeIdx, parent.getBoardIdx())))
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<ReplyRowDto> children = replyQueryRepo.getChildReplies(replyIdx, idx, pageSize);
+
+        List<Long> replyIdxList = children.stream().map(ReplyRowDto::getReplyIdx).toList();
+        Map<Long, Long> likeCountMap = likeQueryRepo.getReplyLikeCountMap(replyIdxList);
+        // 아직 DB에 반영되지 않은 좋아요 증감분 포함
+        likeBufferService.getPendingDeltas(LikeTargetType.REPLY, replyIdxList).forEach((idx, delta) -> likeCountMap.merge(idx, delta, Long::sum));
+        Set<Long> likedReplyIdx = likeBitmapService.getLikedIdx(LikeTargetType.REPLY, replyIdxList, sessionInfo.getMemberIdx());
+        Map<Long, String> nicknameMap = memberProfileCache.getNicknames(children.stream().map(ReplyRowDto::getMemberIdx).toList());
+
+        List<ReplyResponse> responses = children.stream()
+                .map(child -> ReplyResponse.builder()
+                        .idx(child.getReplyIdx())
+                        .nickname(nicknameMap.get(child.getMemberIdx()))
+                        .content(child.getReplyContent())
+                        .likeCount(likeCountMap.getOrDefault(child.getReplyIdx(), 0L))
+                        .isLiked(likedReplyIdx.contains(child.getReplyIdx()))
+                        .createdDate(child.getCreatedDate())
+                        .modifiedDate(child.getModifiedDate())
+                        .build())
+                .collect(Collectors.toList());
+
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(responses), HttpStatus.OK);
+    }
+
     /**
      * 좋아요 생성 또는 업데이트
      *
@@ -11,12 +11,15 @@ import com.spinner.www.report.repository.ReportTypeRepo;
 import com.spinner.www.util.ResponseVOUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,6 +29,9 @@ public class ReportTypeServiceImpl implements ReportTypeService {
     private final ReportTypeRepo reportTypeRepo;
     private final ReportTypeMapper reportTypeMapper;
 
+    @Value("${http.cache.reference-max-age-seconds:3600}")
+    private long referenceMaxAgeSeconds;
+
     /**
      * 신고 유형 추가
      * @param reportTypeCreateRequest ResponseEntity<CommonResponse>
@@ -51,7 +57,9 @@ public class ReportTypeServiceImpl implements ReportTypeService {
         List<ReportTypeDto> reportTypeDtoList = reportTypeMapper.ReportTypeListToReportDtoTypeList(reportTypeList);
         List<ReportTypeResponse> reportTypeResponseList = reportTypeListDtoToReportTypeListResponse(reportTypeDtoList);
 
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(reportTypeResponseList), HttpStatus.OK);
+        return ResponseEntity.ok()
+                .cacheControl(getReferenceCacheControl())
+                .body(ResponseVOUtils.getSuccessResponse(reportTypeResponseList));
     }
 
     /**
@@ -72,7 +80,9 @@ public class ReportTypeServiceImpl implements ReportTypeService {
         ReportTypeDto reportTypeDto = reportTypeMapper.ReportTypeToReportTypeDto(reportType);
         ReportTypeResponse reportTypeResponse = reportTypeDtoToReportTypeResponse(reportTypeDto);
 
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(reportTypeResponse), HttpStatus.OK);
+        return ResponseEntity.ok()
+                .cacheControl(getReferenceCacheControl())
+                .body(ResponseVOUtils.getSuccessResponse(reportTypeResponse));
     }
 
     /**
@@ -122,4 +132,11 @@ public class ReportTypeServiceImpl implements ReportTypeService {
                 .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * 신고 유형처럼 자주 바뀌지 않는 기준 데이터 응답 캐시 설정
+     * @return CacheControl
+     */
+    private CacheControl getReferenceCacheControl() {
+        return CacheControl.maxAge(referenceMaxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+    }
+}
@@ -99,8 +99,4 @@ public class Study extends BaseEntity {
     public void softDelete() {
         this.studyIsRemoved = "Y";
     }
-
-    public void updateViews() {
-        this.studyViews++;
-    }
 }
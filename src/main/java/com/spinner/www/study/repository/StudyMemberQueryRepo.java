@@ -1,18 +1,11 @@
 package com.spinner.www.study.repository;
 
-import static com.spinner.www.member.entity.QMember.member;
-import static com.spinner.www.member.entity.QMemberFile.memberFile;
 import static com.spinner.www.study.entity.QStudy.study;
 import static com.spinner.www.study.entity.QStudyMember.studyMember;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.spinner.www.member.entity.Member;
 import com.spinner.www.study.constants.StudyMemberStatusType;
-import com.spinner.www.study.dto.QStudyMemberSelectDto;
-import com.spinner.www.study.dto.QStudyMemberSelectWaitingDto;
-import com.spinner.www.study.dto.StudyMemberSelectDto;
-import com.spinner.www.study.dto.StudyMemberSelectWaitingDto;
-import com.spinner.www.study.entity.QStudyMember;
 import com.spinner.www.study.entity.Study;
 import com.spinner.www.study.entity.StudyMember;
 import java.util.List;
@@ -26,38 +19,19 @@ public class StudyMemberQueryRepo {
     private final JPAQueryFactory queryFactory;
 
 
-    public List<StudyMemberSelectDto> findStudyMember(Study joinStudy) {
+    /**
+     * 스터디 상태별 회원 idx 조회 (가입순, 표시 정보는 MemberProfileCache 에서 조회)
+     * @param joinStudy Study 스터디
+     * @param status StudyMemberStatusType 가입 상태
+     * @return List<Long> 회원 idx
+     */
+    public List<Long> findStudyMemberIdx(Study joinStudy, StudyMemberStatusType status) {
 
         return queryFactory
-            .select(new QStudyMemberSelectDto(
-                member.memberIdx,
-                memberFile.memberFileIdx,
-                member.memberName))
+            .select(studyMember.member.memberIdx)
             .from(studyMember)
-            .join(studyMember.member, member)
-            .leftJoin(memberFile)
-            .on(member.eq(memberFile.member)) // 필요하면 leftJoin
             .where(studyMember.study.eq(joinStudy),
-                studyMember.studyMemberStatus.eq(StudyMemberStatusType.JOIN),
-                studyMember.studyMemberRemoved.eq("N"))
-            .orderBy(studyMember.createdDate.asc())
-            .fetch();
-    }
-
-
-    public List<StudyMemberSelectWaitingDto> findStudyWaitingMember(Study joinStudy) {
-
-        return queryFactory
-            .select(new QStudyMemberSelectWaitingDto(
-                member.memberIdx,
-                memberFile.memberFileIdx,
-                member.memberName))
-            .from(studyMember)
-            .join(studyMember.member, member)
-            .leftJoin(memberFile)
-            .on(member.eq(memberFile.member)) // 필요하면 leftJoin
-            .where(studyMember.study.eq(joinStudy),
-                studyMember.studyMemberStatus.eq(StudyMemberStatusType.WAITING),
+                studyMember.studyMemberStatus.eq(status),
                 studyMember.studyMemberRemoved.eq("N"))
             .orderBy(studyMember.createdDate.asc())
             .fetch();
@@ -2,9 +2,11 @@ package com.spinner.www.study.service;
 
 import com.spinner.www.common.io.CommonResponse;
 import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.member.dto.MemberProfileDto;
 import com.spinner.www.member.dto.SessionInfo;
 import com.spinner.www.member.entity.Member;
 import com.spinner.www.member.repository.MemberRepo;
+import com.spinner.www.member.service.MemberProfileCache;
 import com.spinner.www.study.constants.StudyMemberStatusType;
 import com.spinner.www.study.constants.StudyStatusType;
 import com.spinner.www.study.dto.StudyMemberJoinDto;
@@ -20,6 +22,8 @@ import com.spinner.www.study.repository.StudyMemberRepo;
 import com.spinner.www.study.repository.StudyRepo;
 import com.spinner.www.util.ResponseVOUtils;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -38,11 +42,12 @@ public class StudyMemberServiceImpl implements StudyMemberService {
     private final StudyMemberQueryRepo studyMemberQueryRepo;
     private final SessionInfo sessionInfo;
     private final StudyMemberMapper studyMemberMapper;
+    private final MemberProfileCache memberProfileCache;
 
     @Override
     public ResponseEntity<CommonResponse> findStudyMember(Long id) {
         Study study = getStudyOrElseThrow(id);
-        List<StudyMemberSelectDto> studyMemberList = studyMemberQueryRepo.findStudyMember(study);
+        List<StudyMemberSelectDto> studyMemberList = getStudyMemberList(study);
 
         if (studyMemberList.isEmpty()) {
             return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse("가입된 회원이 없습니다."),
@@ -57,8 +62,8 @@ public class StudyMemberServiceImpl implements StudyMemberService {
     public ResponseEntity<CommonResponse> manageStudyMember(Long id) {
         Study study = getStudyOrElseThrow(id);
 
-        List<StudyMemberSelectDto> studyMemberList = studyMemberQueryRepo.findStudyMember(study);
-        List<StudyMemberSelectWaitingDto> studyMemberJoinWaitingList = studyMemberQueryRepo.findStudyWaitingMember(study);
+        List<StudyMemberSelectDto> studyMemberList = getStudyMemberList(study);
+        List<StudyMemberSelectWaitingDto> studyMemberJoinWaitingList = getStudyWaitingMemberList(study);
 
         if (studyMemberList.isEmpty() && studyMemberJoinWaitingList.isEmpty()) {
             return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse("가입된 회원이 없습니다."),
@@ -231,4 +236,28 @@ public class StudyMemberServiceImpl implements StudyMemberService {
         return memberRepo.findById(memberIdx).orElseThrow(() ->
             new IllegalArgumentException("멤버를 찾을 수 없습니다."));
     }
+
+    // 가입된 스터디 회원 목록 (표시 정보는 MemberProfileCache 에서 한 번에 조회)
+    private List<StudyMemberSelectDto> getStudyMemberList(Study study) {
+        List<Long> memberIdxList = studyMemberQueryRepo.findStudyMemberIdx(study, StudyMemberStatusType.JOIN);
+        Map<Long, MemberProfileDto> profileMap = memberProfileCache.getProfiles(memberIdxList);
+
+        return memberIdxList.stream()
+            .map(profileMap::get)
+            .filter(Objects::nonNull)
+            .map(profile -> new StudyMemberSelectDto(profile.getMemberIdx(), profile.getMemberFileIdx(), profile.getMemberName()))
+            .toList();
+    }
+
+    // 가입 대기 스터디 회원 목록
+    private List<StudyMemberSelectWaitingDto> getStudyWaitingMemberList(Study study) {
+        List<Long> memberIdxList = studyMemberQueryRepo.findStudyMemberIdx(study, StudyMemberStatusType.WAITING);
+        Map<Long, MemberProfileDto> profileMap = memberProfileCache.getProfiles(memberIdxList);
+
+        return memberIdxList.stream()
+            .map(profileMap::get)
+            .filter(Objects::nonNull)
+            .map(profile -> new StudyMemberSelectWaitingDto(profile.getMemberIdx(), profile.getMemberFileIdx(), profile.getMemberName()))
+            .toList();
+    }
 }
@@ -5,6 +5,8 @@ import static com.spinner.www.study.entity.Study.create;
 import com.spinner.www.common.entity.CommonCode;
 import com.spinner.www.common.io.CommonResponse;
 import com.spinner.www.common.repository.CommonCodeRepo;
+import com.spinner.www.common.service.ViewCountService;
+import com.spinner.www.constants.ViewCountType;
 import com.spinner.www.file.entity.Files;
 import com.spinner.www.file.service.FileService;
 import com.spinner.www.member.dto.SessionInfo;
@@ -48,6 +50,7 @@ public class StudyServiceImpl implements StudyService {
     private final StudyMemberRepo studyMemberRepo;
     private final CommonCodeRepo commonCodeRepo;
     private final StudyQueryRepo studyQueryRepo;
+    private final ViewCountService viewCountService;
 
     @Override
     public ResponseEntity<CommonResponse> getStudyList(Pageable pageable,
@@ -88,10 +91,9 @@ public class StudyServiceImpl implements StudyService {
     }
 
     @Override
-    @Transactional
     public ResponseEntity<CommonResponse> getStudy(Long id) {
         Study study = getStudyOrElseThrow(id);
-        study.updateViews();
+        viewCountService.increase(ViewCountType.STUDY, study.getId());
         // 미션과 커뮤니티쪽 완료되면 추가
 
         return null;
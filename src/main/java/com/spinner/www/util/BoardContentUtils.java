@@ -0,0 +1,111 @@
+package com.spinner.www.util;
+
+import lombok.experimental.UtilityClass;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Safelist;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문(HTML) 가공
+ */
+@UtilityClass
+public class BoardContentUtils {
+
+    /**
+     * 목록 미리보기 최대 글자수
+     */
+    public static final int PREVIEW_LENGTH = 100;
+
+    /**
+     * 목록 썸네일 주소 최대 길이 (board.boardThumbnail 컬럼 길이)
+     */
+    public static final int THUMBNAIL_LENGTH = 500;
+
+    /**
+     * 본문 저장 형식: HtmlUtils.htmlEscape로 전체 이스케이프된 이전 형식
+     */
+    public static final int FORMAT_ESCAPED = 0;
+
+    /**
+     * 본문 저장 형식: 허용 태그만 남긴 HTML (그대로 응답)
+     */
+    public static final int FORMAT_SANITIZED = 1;
+
+    /**
+     * img, video 태그의 src 속성 (group(1): 태그명, group(2): src)
+     */
+    public static final Pattern MEDIA_SRC = Pattern.compile("<(img|video)[^>]+src=[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 서식 태그 + 업로드 이미지/동영상만 허용, 스크립트/이벤트 속성/javascript: 주소는 제거
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("video", "source", "s", "hr", "mark")
+            .addAttributes("video", "src", "controls", "width", "height", "poster")
+            .addAttributes("source", "src", "type")
+            .addProtocols("video", "src", "http", "https")
+            .addProtocols("video", "poster", "http", "https")
+            .addProtocols("source", "src", "http", "https");
+
+    private static final Document.OutputSettings OUTPUT_SETTINGS = new Document.OutputSettings().prettyPrint(false);
+
+    /**
+     * 허용 목록 기준 HTML 정제 (저장 시 1회)
+     * @param html String 사용자 입력 HTML
+     * @return String 응답에 그대로 사용할 수 있는 HTML
+     */
+    public static String sanitize(String html) {
+        if (html == null || html.isEmpty()) return "";
+        return Jsoup.clean(html, "", SAFELIST, OUTPUT_SETTINGS);
+    }
+
+    /**
+     * 태그를 제거한 본문 텍스트
+     * @param html String 본문 HTML
+     * @return String 공백 정리된 텍스트
+     */
+    public static String extractText(String html) {
+        if (html == null || html.isEmpty()) return "";
+
+        String text = TAG.matcher(html).replaceAll(" ");
+        return WHITESPACE.matcher(HtmlUtils.htmlUnescape(text)).replaceAll(" ").trim();
+    }
+
+    /**
+     * 태그를 제거한 본문 앞부분
+     * @param html String 본문 HTML
+     * @return String 미리보기 (최대 PREVIEW_LENGTH 글자)
+     */
+    public static String extractPreview(String html) {
+        String text = extractText(html);
+
+        if (text.length() <= PREVIEW_LENGTH) return text;
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 처리
+        int end = Character.isHighSurrogate(text.charAt(PREVIEW_LENGTH - 1)) ? PREVIEW_LENGTH - 1 : PREVIEW_LENGTH;
+        return text.substring(0, end);
+    }
+
+    /**
+     * 본문의 첫 번째 이미지/동영상 주소
+     * 인라인 data: 주소와 컬럼 길이를 넘는 주소는 잘라서 쓸 수 없으므로 건너뛰고 다음 주소를 사용한다.
+     * 정제된 본문은 속성값의 &를 &amp;로 저장하므로, 원문 문자열 대신 파싱된 속성값(엔티티 해제)을 사용한다.
+     * @param html String 본문 HTML
+     * @return String 썸네일 주소, 없으면 null
+     */
+    public static String extractThumbnail(String html) {
+        if (html == null || html.isEmpty()) return null;
+
+        for (Element media : Jsoup.parseBodyFragment(html).select("img[src], video[src]")) {
+            String src = media.attr("src").trim();
+            if (src.isEmpty() || src.length() > THUMBNAIL_LENGTH) continue;
+            if (src.regionMatches(true, 0, "data:", 0, 5)) continue;
+            return src;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.spinner.www.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 조건부 GET(If-None-Match) 처리용 ETag 유틸
+ */
+@UtilityClass
+public class ETagUtils {
+
+    /**
+     * 버전 문자열로 ETag 생성
+     * @param version String 응답 내용이 바뀌면 함께 바뀌는 값
+     * @return String 따옴표로 감싼 ETag
+     */
+    public static String of(String version) {
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (If-None-Match는 약한 비교)
+     * @param ifNoneMatch String If-None-Match 헤더
+     * @param eTag String 현재 ETag
+     * @return boolean 일치하면 true
+     */
+    public static boolean matches(@Nullable String ifNoneMatch, String eTag) {
+        if (!StringUtils.hasText(ifNoneMatch)) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(eTag)) return true;
+        }
+        return false;
+    }
+}
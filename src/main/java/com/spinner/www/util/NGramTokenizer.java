@@ -0,0 +1,64 @@
+package com.spinner.www.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 n-gram 토큰 생성
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 되도록 단어 단위로 2-gram, 3-gram을 만든다.
+ */
+@UtilityClass
+public class NGramTokenizer {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 색인용 토큰 생성 (단어별 2-gram, 3-gram / 한 글자 단어는 그대로)
+     * @param text String 원문
+     * @param weight int 필드 가중치
+     * @param grams Map<String, Integer> 토큰별 가중치 누적 대상
+     */
+    public static void addIndexGrams(String text, int weight, Map<String, Integer> grams) {
+        for (String word : split(text)) {
+            if (word.length() == 1) {
+                grams.merge(word, weight, Integer::sum);
+                continue;
+            }
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    grams.merge(word.substring(i, i + n), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어 토큰 생성 (2글자 단어는 2-gram, 3글자 이상은 3-gram)
+     * 한 글자 단어가 있으면 색인으로 부분 일치를 보장할 수 없으므로 null 반환
+     * @param keyword String 검색어
+     * @return Set<String> 검색 토큰
+     */
+    public static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : split(keyword)) {
+            if (word.length() == 1) return null;
+            int n = word.length() == 2 ? 2 : 3;
+            for (int i = 0; i + n <= word.length(); i++) {
+                grams.add(word.substring(i, i + n));
+            }
+        }
+        return grams.isEmpty() ? null : grams;
+    }
+
+    private static String[] split(String text) {
+        if (text == null || text.isBlank()) return new String[0];
+        String normalized = NON_WORD.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        return normalized.isEmpty() ? new String[0] : WHITESPACE.split(normalized);
+    }
+}
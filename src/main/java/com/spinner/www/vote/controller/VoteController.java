@@ -27,6 +27,9 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/vote")
 public class VoteController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 100;
+
     private final VoteService voteService;
     
     /**
@@ -125,11 +128,19 @@ public class VoteController {
 
     /**
      * 투표 참여
+     * 같은 Idempotency-Key로 재시도하면 처음 응답을 그대로 반환
      * @param voteUserRequest VoteParticipateUserRequest
+     * @param idempotencyKey String 멱등 키 (선택)
      * @return ResponseEntity<CommonResponse>
      */
     @PostMapping("/participate")
-    public ResponseEntity<CommonResponse> selectVoteItem(@RequestBody VoteUserRequest voteUserRequest) {
+    public ResponseEntity<CommonResponse> selectVoteItem(@RequestBody VoteUserRequest voteUserRequest,
+                                                         @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        // 멱등 키가 너무 긴 경우
+        if (idempotencyKey != null && idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.BAD_REQUEST), HttpStatus.BAD_REQUEST);
+        }
 
         // 단수 선택의 경우, 여러 개의 투표 항목이 들어오면
         if (voteUserRequest.getVoteStatus() == VoteStatus.ing) {
@@ -143,7 +154,7 @@ public class VoteController {
                 return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.END_VOTE), HttpStatus.BAD_REQUEST);
         }
 
-        return voteService.selectVoteItem(voteUserRequest);
+        return voteService.selectVoteItem(voteUserRequest, idempotencyKey);
     }
 
 }
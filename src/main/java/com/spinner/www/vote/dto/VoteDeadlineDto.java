@@ -0,0 +1,18 @@
+package com.spinner.www.vote.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class VoteDeadlineDto {
+    private Long voteIdx;
+    private LocalDateTime endDatetime;
+
+    @QueryProjection
+    public VoteDeadlineDto(Long voteIdx, LocalDateTime endDatetime) {
+        this.voteIdx = voteIdx;
+        this.endDatetime = endDatetime;
+    }
+}
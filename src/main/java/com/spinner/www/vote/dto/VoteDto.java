@@ -3,9 +3,12 @@ package com.spinner.www.vote.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class VoteDto {
     private Long voteIdx;
     private String voteName;
+    private LocalDateTime endDatetime;
 }
@@ -9,7 +9,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,8 +22,12 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 public class Vote extends BaseEntity {
 
+    // 마감 기한 미설정 투표의 마감 일자 (TIMESTAMP 최대값)
+    public static final LocalDateTime NO_DEADLINE = LocalDateTime.of(2038, 1, 19, 3, 14, 7);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "voteIdx")
@@ -59,6 +65,11 @@ public class Vote extends BaseEntity {
     @Column(columnDefinition = "TIMESTAMP(0)")
     private LocalDateTime endDatetime;
 
+    @ColumnDefault("0")
+    @Comment("총 투표수 (항목 선택 수 합계)")
+    @Column(nullable = false)
+    private long voteTotalCount;
+
     /**
      * 연관관계 메서드 설정
      * @param voteItem VoteItem
@@ -73,7 +84,7 @@ public class Vote extends BaseEntity {
     public static Vote create(Board board, VoteCreateDto voteCreateDto) {
         LocalDateTime endDatetime = voteCreateDto.getVoteEndDatetime() != null
                 ? voteCreateDto.getVoteEndDatetime()
-                : LocalDateTime.of(2038, 1, 19, 3, 14, 7);
+                : NO_DEADLINE;
         // 마감 기한 설정 없을 시 EndDateTime TimeStamp 최대 기간으로 설정
 
         return Vote.builder()
@@ -93,6 +104,7 @@ public class Vote extends BaseEntity {
     public void update(VoteDto voteDto) {
         this.id = voteDto.getVoteIdx();
         this.voteName = voteDto.getVoteName();
+        if (voteDto.getEndDatetime() != null) this.endDatetime = voteDto.getEndDatetime();
     }
 
     /**
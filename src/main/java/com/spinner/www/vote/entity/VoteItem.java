@@ -8,7 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
@@ -17,6 +19,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 public class VoteItem extends BaseEntity {
 
     @Id
@@ -36,6 +39,11 @@ public class VoteItem extends BaseEntity {
     @Comment("투표_항목 삭제 여부")
     private String voteItemIsRemoved;
 
+    @ColumnDefault("0")
+    @Comment("투표_항목 투표수")
+    @Column(nullable = false)
+    private long voteItemCount;
+
 
     /**
      * 양방향 연관관계 맺어 주는 메서드
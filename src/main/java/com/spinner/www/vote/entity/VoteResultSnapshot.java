@@ -0,0 +1,52 @@
+package com.spinner.www.vote.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감된 투표의 최종 결과 (마감 시점에 한 번만 기록)
+ */
+@Entity
+@Immutable
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteResultSnapshot {
+
+    @Id
+    @Column(name = "voteIdx")
+    @Comment("투표 idx")
+    private Long voteIdx;
+
+    @Comment("마감 시점 총 투표수")
+    @Column(nullable = false)
+    private long voteTotalCount;
+
+    @Comment("마감 시점 결과 JSON")
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String resultJson;
+
+    @Comment("마감 일시")
+    @Column(columnDefinition = "TIMESTAMP(0)")
+    private LocalDateTime closedDatetime;
+
+    /**
+     * 생성 메서드
+     */
+    public static VoteResultSnapshot create(Long voteIdx, long voteTotalCount, String resultJson) {
+        return VoteResultSnapshot.builder()
+                .voteIdx(voteIdx)
+                .voteTotalCount(voteTotalCount)
+                .resultJson(resultJson)
+                .closedDatetime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -13,6 +13,9 @@ import org.hibernate.annotations.Comment;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vote_user_vote_member_item", columnNames = {"voteIdx", "memberIdx", "voteItemIdx"})
+})
 public class VoteUser {
 
     @Id
@@ -0,0 +1,19 @@
+package com.spinner.www.vote.io;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 투표 실시간 집계 변경분 (/room/vote/{voteIdx})
+ * 클라이언트는 조회한 결과에 변경분을 더해 표시하고, 재연결 시 결과를 다시 조회한다.
+ */
+@Getter
+@Builder
+public class VoteTallyResponse {
+    private Long voteIdx;
+    private long totalVotesDelta;            // 총 투표수 변경분
+    private Map<Long, Long> voteItemDeltas;  // 항목 idx별 투표수 변경분
+    private boolean ended;                   // 마감 여부
+}
@@ -3,6 +3,7 @@ package com.spinner.www.vote.io;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -10,5 +11,6 @@ import java.util.List;
 public class VoteUpdateRequest {
     private Long voteIdx;
     private String voteName;
+    private LocalDateTime endDatetime;
     private List<VoteItemUpdateRequest> voteItemUpdateRequestList;
 }
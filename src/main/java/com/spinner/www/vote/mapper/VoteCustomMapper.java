@@ -52,6 +52,7 @@ public class VoteCustomMapper {
         return VoteDto.builder()
                 .voteIdx(voteUpdateRequest.getVoteIdx())
                 .voteName(voteUpdateRequest.getVoteName())
+                .endDatetime(voteUpdateRequest.getEndDatetime())
                 .build();
     }
 
@@ -187,4 +188,39 @@ public class VoteCustomMapper {
                 .userVoted(userVoted)
                 .build();
     }
+
+    /**
+     * 투표 항목/총 투표수 카운터 -> 커뮤니티 투표 결과 변환 (항목 수에 비례)
+     * @param vote Vote
+     * @return VoteResultsCommunityResponse
+     */
+    public VoteResultsCommunityResponse toVoteResultsCommunityResponse(Vote vote) {
+        long totalVotes = vote.getVoteTotalCount();
+
+        // 전체 투표 수가 0이면 빈 응답 반환
+        if (totalVotes == 0L) {
+            return VoteResultsCommunityResponse.builder()
+                    .totalVotes(0)
+                    .voteIdx(vote.getId())
+                    .voteResult(List.of())
+                    .build();
+        }
+
+        List<VoteCommunityResultDto> results = vote.getVoteItems().stream()
+                .filter(voteItem -> "N".equals(voteItem.getVoteItemIsRemoved()))
+                .map(voteItem -> VoteCommunityResultDto.builder()
+                        .voteItemIdx(voteItem.getId())
+                        .voteItemName(voteItem.getVoteItemName())
+                        .voteCount(voteItem.getVoteItemCount())
+                        // 소숫점 1번째 자리까지 반올림한 퍼센트
+                        .votePercentage(Math.round(voteItem.getVoteItemCount() * 1000.0 / totalVotes) / 10.0)
+                        .build())
+                .toList();
+
+        return VoteResultsCommunityResponse.builder()
+                .totalVotes(totalVotes)
+                .voteIdx(vote.getId())
+                .voteResult(results)
+                .build();
+    }
 }
@@ -0,0 +1,82 @@
+package com.spinner.www.vote.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 없이 단일 서버로 실행할 때 쓰는 투표 참여 선점 및 멱등 키 응답 저장소
+ * 선점/예약은 ConcurrentHashMap의 원자적 갱신으로 결정된다.
+ */
+@Repository
+@ConditionalOnProperty(name = "vote.claim.store", havingValue = "memory", matchIfMissing = true)
+public class VoteClaimMemoryRepo implements VoteClaimRepo {
+
+    private record Entry(String value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean claim(Long voteIdx, Long memberIdx, Duration ttl) {
+        return putIfAbsent(getClaimKey(voteIdx, memberIdx), "1", ttl) == null;
+    }
+
+    @Override
+    public void release(Long voteIdx, Long memberIdx) {
+        entries.remove(getClaimKey(voteIdx, memberIdx));
+    }
+
+    @Override
+    @Nullable
+    public String reserve(Long memberIdx, String idempotencyKey, Duration ttl) {
+        return putIfAbsent(getIdempotencyKey(memberIdx, idempotencyKey), "", ttl);
+    }
+
+    @Override
+    public void complete(Long memberIdx, String idempotencyKey, String responseJson, Duration ttl) {
+        entries.put(getIdempotencyKey(memberIdx, idempotencyKey), new Entry(responseJson, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void cancel(Long memberIdx, String idempotencyKey) {
+        entries.remove(getIdempotencyKey(memberIdx, idempotencyKey));
+    }
+
+    /**
+     * 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${vote.claim.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    /**
+     * 만료되지 않은 값이 없으면 저장
+     * @return String 저장 성공 시 null, 아니면 기존 값
+     */
+    @Nullable
+    private String putIfAbsent(String key, String value, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(value, now + ttl.toMillis());
+        Entry current = entries.compute(key, (k, existing) -> existing == null || existing.isExpired(now) ? entry : existing);
+        return current == entry ? null : current.value();
+    }
+
+    private String getClaimKey(Long voteIdx, Long memberIdx) {
+        return "claim:" + voteIdx + ":" + memberIdx;
+    }
+
+    private String getIdempotencyKey(Long memberIdx, String idempotencyKey) {
+        return "idem:" + memberIdx + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,70 @@
+package com.spinner.www.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 투표 참여 선점 (vote:claim:{voteIdx}:{memberIdx}) 및 멱등 키 응답 (vote:idem:{memberIdx}:{key})
+ * 여러 서버에서도 SETNX 한 번으로 선점이 결정된다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "vote.claim.store", havingValue = "redis")
+public class VoteClaimRedisRepo implements VoteClaimRepo {
+
+    private static final String CLAIM_PREFIX = "vote:claim:";
+    private static final String IDEMPOTENCY_PREFIX = "vote:idem:";
+
+    // 값이 있으면 그대로 반환, 없으면 빈 값(처리 중)으로 예약 후 nil 반환
+    private static final RedisScript<String> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1])"
+                    + " if v then return v end"
+                    + " redis.call('SET', KEYS[1], '', 'PX', ARGV[1])"
+                    + " return nil",
+            String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean claim(Long voteIdx, Long memberIdx, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(getClaimKey(voteIdx, memberIdx), "1", ttl));
+    }
+
+    @Override
+    public void release(Long voteIdx, Long memberIdx) {
+        stringRedisTemplate.delete(getClaimKey(voteIdx, memberIdx));
+    }
+
+    @Override
+    @Nullable
+    public String reserve(Long memberIdx, String idempotencyKey, Duration ttl) {
+        return stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(getIdempotencyKey(memberIdx, idempotencyKey)),
+                String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public void complete(Long memberIdx, String idempotencyKey, String responseJson, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(getIdempotencyKey(memberIdx, idempotencyKey), responseJson, ttl);
+    }
+
+    @Override
+    public void cancel(Long memberIdx, String idempotencyKey) {
+        stringRedisTemplate.delete(getIdempotencyKey(memberIdx, idempotencyKey));
+    }
+
+    private String getClaimKey(Long voteIdx, Long memberIdx) {
+        return CLAIM_PREFIX + voteIdx + ":" + memberIdx;
+    }
+
+    private String getIdempotencyKey(Long memberIdx, String idempotencyKey) {
+        return IDEMPOTENCY_PREFIX + memberIdx + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,53 @@
+package com.spinner.www.vote.repository;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * 투표 참여 선점 및 멱등 키 응답 저장소
+ */
+public interface VoteClaimRepo {
+
+    /**
+     * 회원의 투표 참여 선점 (이미 선점돼 있으면 false)
+     * @param voteIdx Long 투표 idx
+     * @param memberIdx Long 회원 idx
+     * @param ttl Duration 선점 유지 기간
+     * @return boolean 선점 성공 여부
+     */
+    boolean claim(Long voteIdx, Long memberIdx, Duration ttl);
+
+    /**
+     * 투표 참여 선점 해제 (참여가 저장되지 않은 경우)
+     * @param voteIdx Long 투표 idx
+     * @param memberIdx Long 회원 idx
+     */
+    void release(Long voteIdx, Long memberIdx);
+
+    /**
+     * 멱등 키 예약
+     * @param memberIdx Long 회원 idx
+     * @param idempotencyKey String 멱등 키
+     * @param ttl Duration 예약/응답 유지 기간
+     * @return String 예약 성공 시 null, 처리 중이면 빈 문자열, 처리가 끝났으면 저장된 응답 JSON
+     */
+    @Nullable
+    String reserve(Long memberIdx, String idempotencyKey, Duration ttl);
+
+    /**
+     * 멱등 키 응답 저장
+     * @param memberIdx Long 회원 idx
+     * @param idempotencyKey String 멱등 키
+     * @param responseJson String 응답 JSON
+     * @param ttl Duration 응답 유지 기간
+     */
+    void complete(Long memberIdx, String idempotencyKey, String responseJson, Duration ttl);
+
+    /**
+     * 멱등 키 예약 해제 (처리 실패로 재시도가 가능해야 하는 경우)
+     * @param memberIdx Long 회원 idx
+     * @param idempotencyKey String 멱등 키
+     */
+    void cancel(Long memberIdx, String idempotencyKey);
+}
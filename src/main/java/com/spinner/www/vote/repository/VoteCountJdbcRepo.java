@@ -0,0 +1,64 @@
+package com.spinner.www.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class VoteCountJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 가장 큰 투표 idx
+     * @return long
+     */
+    public long getMaxVoteIdx() {
+        Long maxIdx = jdbcTemplate.queryForObject("SELECT MAX(vote_idx) FROM vote", Long.class);
+        return maxIdx == null ? 0L : maxIdx;
+    }
+
+    /**
+     * 참여자가 있는데 총 투표수가 0인 투표가 있는지 (카운터 컬럼 추가 이전에 참여한 투표)
+     * @return boolean
+     */
+    public boolean existsMissingCount() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS(SELECT 1 FROM vote_user vu"
+                + " JOIN vote v ON v.vote_idx = vu.vote_idx"
+                + " WHERE v.vote_total_count = 0)", Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 투표 구간의 항목별 투표수를 vote_user 기준으로 다시 계산
+     * @param fromIdx long 시작 투표 idx (미포함)
+     * @param toIdx long 종료 투표 idx (포함)
+     * @return int 처리한 투표 항목 수
+     */
+    public int reconcileItemCount(long fromIdx, long toIdx) {
+        String sql = "UPDATE vote_item vi"
+                + " LEFT JOIN (SELECT vu.vote_item_idx, COUNT(*) AS item_count FROM vote_user vu"
+                + "            WHERE vu.vote_idx > ? AND vu.vote_idx <= ?"
+                + "            GROUP BY vu.vote_item_idx) c ON c.vote_item_idx = vi.vote_item_idx"
+                + " SET vi.vote_item_count = COALESCE(c.item_count, 0)"
+                + " WHERE vi.vote_idx > ? AND vi.vote_idx <= ?";
+        return jdbcTemplate.update(sql, fromIdx, toIdx, fromIdx, toIdx);
+    }
+
+    /**
+     * 투표 구간의 총 투표수를 vote_user 기준으로 다시 계산
+     * @param fromIdx long 시작 투표 idx (미포함)
+     * @param toIdx long 종료 투표 idx (포함)
+     * @return int 처리한 투표 수
+     */
+    public int reconcileTotalCount(long fromIdx, long toIdx) {
+        String sql = "UPDATE vote v"
+                + " LEFT JOIN (SELECT vu.vote_idx, COUNT(*) AS total_count FROM vote_user vu"
+                + "            WHERE vu.vote_idx > ? AND vu.vote_idx <= ?"
+                + "            GROUP BY vu.vote_idx) c ON c.vote_idx = v.vote_idx"
+                + " SET v.vote_total_count = COALESCE(c.total_count, 0)"
+                + " WHERE v.vote_idx > ? AND v.vote_idx <= ?";
+        return jdbcTemplate.update(sql, fromIdx, toIdx, fromIdx, toIdx);
+    }
+}
@@ -2,10 +2,23 @@ package com.spinner.www.vote.repository;
 
 import com.spinner.www.vote.entity.VoteItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface VoteItemRepo extends JpaRepository<VoteItem, Long> {
+
+    /**
+     * 투표 항목 투표수 증감
+     * @param voteItemIdx Long 투표 항목 idx
+     * @param delta long 증감값
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE VoteItem vi SET vi.voteItemCount = vi.voteItemCount + :delta WHERE vi.id = :voteItemIdx")
+    int increaseVoteItemCount(@Param("voteItemIdx") Long voteItemIdx, @Param("delta") long delta);
 }
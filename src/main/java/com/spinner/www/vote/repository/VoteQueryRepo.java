@@ -1,22 +1,23 @@
 package com.spinner.www.vote.repository;
 
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.spinner.www.member.entity.Member;
-import com.spinner.www.vote.dto.QVoteCommunityResultDto;
-import com.spinner.www.vote.dto.VoteCommunityResultDto;
+import com.spinner.www.vote.dto.QVoteDeadlineDto;
+import com.spinner.www.vote.dto.VoteDeadlineDto;
 import com.spinner.www.vote.entity.QVoteItem;
 import com.spinner.www.vote.entity.QVoteUser;
 import com.spinner.www.vote.entity.Vote;
 import com.spinner.www.vote.entity.VoteItem;
-import com.spinner.www.vote.io.VoteResultsCommunityResponse;
+import com.spinner.www.vote.entity.VoteStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.spinner.www.vote.entity.QVote.*;
 import static com.spinner.www.vote.entity.QVoteUser.*;
 import static com.spinner.www.vote.entity.QVoteItem.*;
 
@@ -38,65 +39,35 @@ public class VoteQueryRepo {
         return voteUserStatus.isEmpty();
     }
 
-    // 투표 항목의 투표 idx와 투표가 일치하는지
-    public Boolean findVote(Vote vote, List<Long> itemIdxList) {
-
-        List<Long> voteItemStatus = queryFactory
-                .select(voteItem.id)
-                .from(voteItem)
-                .where(voteItem.vote.id.eq(vote.getId())
-                        .and(voteItem.id.in(itemIdxList)))
-                .fetch();
-
-        // 결과가 있으면 true
-        return !voteItemStatus.isEmpty();
-    }
-
-    public VoteResultsCommunityResponse findVoteCommunityResultsByVote(Vote vote) {
-
-        // 총 투표 수 계산
-        Long totalVotes = queryFactory
-                .select(voteUser.count())
+    /**
+     * 회원이 참여한 투표 idx 조회 (게시글 투표 목록의 참여 여부 일괄 확인)
+     * @param memberIdx Long 회원 idx
+     * @param voteIdxList List<Long> 투표 idx 목록
+     * @return Set<Long> 참여한 투표 idx
+     */
+    public Set<Long> findVotedVoteIdx(Long memberIdx, List<Long> voteIdxList) {
+        if (memberIdx == null || voteIdxList.isEmpty()) return new HashSet<>();
+
+        return new HashSet<>(queryFactory
+                .selectDistinct(voteUser.vote.id)
                 .from(voteUser)
-                .where(voteUser.vote.eq(vote))
-                .fetchOne();
-
-        // 전체 투표 수가 0이거나 데이터가 없을 경우 빈 응답 반환
-        if (totalVotes == null || totalVotes == 0L) {
-            return VoteResultsCommunityResponse.builder()
-                    .totalVotes(0)
-                    .voteResult(List.of())
-                    .build();
-        }
-
-        // 전체 투표 수를 NumberExpression으로 변환
-        NumberExpression<Double> totalVotesExpr = Expressions.asNumber(totalVotes.doubleValue());
+                .where(voteUser.member.memberIdx.eq(memberIdx),
+                        voteUser.vote.id.in(voteIdxList))
+                .fetch());
+    }
 
-        // 각 투표 항목별 데이터 조회
-        List<VoteCommunityResultDto> results = queryFactory.select(new QVoteCommunityResultDto(
-                        voteItem.id,
-                        voteItem.voteItemName,
-                        voteUser.count(),
-                        Expressions.asNumber(
-                                voteUser.count()
-                                        .doubleValue()
-                                        .divide(totalVotesExpr)
-                                        .multiply(100) // 퍼센트 계산
-                                        .multiply(10) // 소숫점 1번째 자리까지 유지하도록 변환
-                                        .round() // 반올림 처리
-                                        .divide(10) // 다시 원래 단위로 변환
-                        )))
-                .from(voteItem)
-                .leftJoin(voteUser)
-                .on(voteUser.voteItem.eq(voteItem))
-                .where(voteItem.vote.eq(vote))
-                .groupBy(voteItem.id, voteItem.voteItemName)
+    /**
+     * 마감 예정 투표 조회 (마감 스케줄러 초기화)
+     * 마감 기한이 없는 투표는 제외
+     * @return List<VoteDeadlineDto>
+     */
+    public List<VoteDeadlineDto> findPendingDeadlines() {
+        return queryFactory
+                .select(new QVoteDeadlineDto(vote.id, vote.endDatetime))
+                .from(vote)
+                .where(vote.voteIsRemoved.eq("N"),
+                        vote.voteStatus.ne(VoteStatus.end),
+                        vote.endDatetime.lt(Vote.NO_DEADLINE))
                 .fetch();
-
-        return VoteResultsCommunityResponse.builder()
-                .totalVotes(totalVotes)
-                .voteIdx(vote.getId())
-                .voteResult(results)
-                .build();
     }
 }
@@ -3,10 +3,12 @@ package com.spinner.www.vote.repository;
 import com.spinner.www.board.entity.Board;
 import com.spinner.www.vote.entity.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,4 +20,44 @@ public interface VoteRepo extends JpaRepository<Vote, Long> {
             " AND v.voteIsRemoved = 'N'" +
             " AND vi.voteItemIsRemoved = 'N'")
     List<Vote> findVotesByBoard(@Param("board") Board board);
+
+    /**
+     * 진행 중인 투표의 총 투표수 증가 (마감됐거나 마감 일자가 지났으면 0 반환)
+     * 마감 처리와 같은 row 잠금을 잡아 마감 이후의 투표가 결과에 섞이지 않게 함
+     * @param voteIdx Long 투표 idx
+     * @param delta long 증가값
+     * @param now LocalDateTime 현재 일시
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Vote v SET v.voteTotalCount = v.voteTotalCount + :delta" +
+            " WHERE v.id = :voteIdx" +
+            " AND v.voteIsRemoved = 'N'" +
+            " AND v.voteStatus <> com.spinner.www.vote.entity.VoteStatus.end" +
+            " AND v.endDatetime > :now")
+    int increaseVoteTotalCountIfOpen(@Param("voteIdx") Long voteIdx, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    /**
+     * 투표 마감 (이미 마감된 투표는 0 반환)
+     * @param voteIdx Long 투표 idx
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Vote v SET v.voteStatus = com.spinner.www.vote.entity.VoteStatus.end" +
+            " WHERE v.id = :voteIdx" +
+            " AND v.voteStatus <> com.spinner.www.vote.entity.VoteStatus.end")
+    int endVote(@Param("voteIdx") Long voteIdx);
+
+    /**
+     * 마감 일자가 지난 투표 마감 (이미 마감됐거나 마감 일자가 연장됐으면 0 반환)
+     * @param voteIdx Long 투표 idx
+     * @param now LocalDateTime 현재 일시
+     * @return int 수정된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Vote v SET v.voteStatus = com.spinner.www.vote.entity.VoteStatus.end" +
+            " WHERE v.id = :voteIdx" +
+            " AND v.voteStatus <> com.spinner.www.vote.entity.VoteStatus.end" +
+            " AND v.endDatetime <= :now")
+    int endVoteIfDue(@Param("voteIdx") Long voteIdx, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,9 @@
+package com.spinner.www.vote.repository;
+
+import com.spinner.www.vote.entity.VoteResultSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VoteResultSnapshotRepo extends JpaRepository<VoteResultSnapshot, Long> {
+}
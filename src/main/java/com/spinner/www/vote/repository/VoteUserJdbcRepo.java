@@ -0,0 +1,67 @@
+package com.spinner.www.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class VoteUserJdbcRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 투표/회원/항목의 중복 참여 중 가장 먼저 생성된 행만 남기고 삭제
+     * @return int 삭제된 행 수
+     */
+    public int deleteDuplicates() {
+        return jdbcTemplate.update("DELETE vu1 FROM vote_user vu1 JOIN vote_user vu2"
+                + " ON vu1.vote_idx = vu2.vote_idx AND vu1.member_idx = vu2.member_idx"
+                + " AND vu1.vote_item_idx = vu2.vote_item_idx AND vu1.vote_user_idx > vu2.vote_user_idx");
+    }
+
+    /**
+     * vote_user 테이블 인덱스 존재 여부
+     * @param indexName String 인덱스 이름
+     * @return boolean
+     */
+    public boolean existsIndex(String indexName) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM information_schema.statistics"
+                + " WHERE table_schema = DATABASE() AND table_name = 'vote_user' AND index_name = ?)", Boolean.class, indexName);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * vote_user 테이블 유니크 키 추가
+     * @param indexName String 유니크 키 이름
+     * @param columns String 유니크 키 컬럼 (쉼표 구분)
+     */
+    public void addUniqueKey(String indexName, String columns) {
+        jdbcTemplate.execute("ALTER TABLE vote_user ADD UNIQUE KEY " + indexName + " (" + columns + ")");
+    }
+
+    /**
+     * 투표 참여 저장 (이미 있는 항목은 유니크 키로 무시)
+     * @param voteIdx Long 투표 idx
+     * @param memberIdx Long 회원 idx
+     * @param voteItemIdxList List<Long> 투표 항목 idx 목록
+     * @return int 새로 저장된 행 수
+     */
+    public int insertIgnoreAll(Long voteIdx, Long memberIdx, List<Long> voteItemIdxList) {
+        if (voteItemIdxList.isEmpty()) return 0;
+
+        List<Object[]> params = new ArrayList<>(voteItemIdxList.size());
+        voteItemIdxList.forEach(voteItemIdx -> params.add(new Object[]{voteIdx, memberIdx, voteItemIdx}));
+
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate("INSERT IGNORE INTO vote_user (vote_idx, member_idx, vote_item_idx) VALUES (?, ?, ?)", params)) {
+            // 드라이버가 행 수를 알려주지 않으면 저장된 것으로 본다
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return inserted;
+    }
+}
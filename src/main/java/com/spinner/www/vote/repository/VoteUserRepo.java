@@ -1,11 +1,17 @@
 package com.spinner.www.vote.repository;
 
-import com.spinner.www.member.entity.Member;
 import com.spinner.www.vote.entity.VoteUser;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface VoteUserRepo extends JpaRepository<VoteUser, Long> {
-    VoteUser findByMember(Member member);
+
+    /**
+     * 회원의 투표 참여 여부
+     * @param voteIdx Long 투표 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean
+     */
+    boolean existsByVoteIdAndMemberMemberIdx(Long voteIdx, Long memberIdx);
 }
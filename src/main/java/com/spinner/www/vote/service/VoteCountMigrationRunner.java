@@ -0,0 +1,39 @@
+package com.spinner.www.vote.service;
+
+import com.spinner.www.vote.repository.VoteCountJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 컬럼 추가 이전에 참여한 투표의 항목별/총 투표수 채우기
+ * 마감 스케줄러(ApplicationReadyEvent)보다 먼저 실행되어, 기동 직후 마감되는 투표의 결과와 실시간 집계가 0으로 시작하지 않게 한다.
+ * 채울 투표가 없으면 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountMigrationRunner implements ApplicationRunner {
+
+    private final VoteCountJdbcRepo voteCountJdbcRepo;
+
+    @Value("${vote.count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!voteCountJdbcRepo.existsMissingCount()) return;
+
+        long maxIdx = voteCountJdbcRepo.getMaxVoteIdx();
+        for (long fromIdx = 0; fromIdx < maxIdx; fromIdx += chunkSize) {
+            long toIdx = Math.min(fromIdx + chunkSize, maxIdx);
+            voteCountJdbcRepo.reconcileItemCount(fromIdx, toIdx);
+            voteCountJdbcRepo.reconcileTotalCount(fromIdx, toIdx);
+        }
+
+        log.info("투표수 채우기 완료 maxIdx={}", maxIdx);
+    }
+}
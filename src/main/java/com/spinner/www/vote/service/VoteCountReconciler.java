@@ -0,0 +1,36 @@
+package com.spinner.www.vote.service;
+
+import com.spinner.www.vote.repository.VoteCountJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountReconciler {
+
+    private final VoteCountJdbcRepo voteCountJdbcRepo;
+
+    @Value("${vote.count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 투표 항목별/총 투표수 보정
+     * 투표 선택 시 같은 트랜잭션으로 증가시키지만, 직접 DB 수정 등으로 어긋난 값을 vote_user 기준으로 구간 단위로 맞춘다.
+     */
+    @Scheduled(cron = "${vote.count.reconcile-cron:0 45 4 * * *}")
+    public void reconcile() {
+        long maxIdx = voteCountJdbcRepo.getMaxVoteIdx();
+
+        for (long fromIdx = 0; fromIdx < maxIdx; fromIdx += chunkSize) {
+            long toIdx = Math.min(fromIdx + chunkSize, maxIdx);
+            voteCountJdbcRepo.reconcileItemCount(fromIdx, toIdx);
+            voteCountJdbcRepo.reconcileTotalCount(fromIdx, toIdx);
+        }
+
+        log.info("투표수 보정 완료 maxIdx={}", maxIdx);
+    }
+}
@@ -0,0 +1,159 @@
+package com.spinner.www.vote.service;
+
+import com.spinner.www.vote.dto.VoteDeadlineDto;
+import com.spinner.www.vote.entity.Vote;
+import com.spinner.www.vote.repository.VoteQueryRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표 마감 스케줄러
+ * 마감 예정 투표를 메모리의 DelayQueue에 두고 마감 일자가 되면 마감 처리 (DB 폴링 없음)
+ * 서버가 여러 대여도 마감은 조건부 UPDATE로 한 번만 처리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteDeadlineScheduler {
+
+    private final VoteQueryRepo voteQueryRepo;
+    private final VoteResultSnapshotService voteResultSnapshotService;
+
+    @Value("${vote.deadline.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    // 투표 idx별 현재 마감 시각 (마감 일자 변경/취소 시 큐에 남은 이전 항목은 꺼낼 때 무시)
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+    private Thread worker;
+
+    /**
+     * 서버 기동 시 마감 예정 투표 등록 후 마감 처리 시작
+     * 서버가 내려가 있는 동안 지난 마감은 바로 처리됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        worker = new Thread(this::run, "vote-deadline");
+        worker.setDaemon(true);
+        worker.start();
+
+        try {
+            List<VoteDeadlineDto> pending = voteQueryRepo.findPendingDeadlines();
+            // 조회 중에 요청으로 등록된 마감 일자가 더 최신이므로 덮어쓰지 않음
+            pending.forEach(deadline -> register(deadline.getVoteIdx(), deadline.getEndDatetime(), false));
+            log.info("투표 마감 스케줄러 초기화 votes={}", pending.size());
+        } catch (RuntimeException e) {
+            log.error("투표 마감 스케줄러 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 마감 일자 등록 (트랜잭션 안이면 커밋 이후 등록)
+     * 마감 기한이 없으면 기존 예약을 취소
+     * @param voteIdx Long 투표 idx
+     * @param endDatetime LocalDateTime 마감 일자
+     */
+    public void schedule(Long voteIdx, LocalDateTime endDatetime) {
+        if (voteIdx == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register(voteIdx, endDatetime, true);
+                }
+            });
+            return;
+        }
+        register(voteIdx, endDatetime, true);
+    }
+
+    /**
+     * 마감 예약 취소 (즉시 마감, 삭제), 트랜잭션 안이면 커밋 이후 취소
+     * @param voteIdx Long 투표 idx
+     */
+    public void cancel(Long voteIdx) {
+        if (voteIdx == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deadlines.remove(voteIdx);
+                }
+            });
+            return;
+        }
+        deadlines.remove(voteIdx);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (worker != null) worker.interrupt();
+    }
+
+    private void register(Long voteIdx, LocalDateTime endDatetime, boolean replace) {
+        if (endDatetime == null || !endDatetime.isBefore(Vote.NO_DEADLINE)) {
+            if (replace) deadlines.remove(voteIdx);
+            return;
+        }
+        long dueMillis = endDatetime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (replace) deadlines.put(voteIdx, dueMillis);
+        else if (deadlines.putIfAbsent(voteIdx, dueMillis) != null) return;
+        queue.offer(new Deadline(voteIdx, dueMillis));
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Deadline deadline;
+            try {
+                deadline = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // 취소됐거나 마감 일자가 바뀐 이전 항목
+            if (!deadlines.remove(deadline.voteIdx(), deadline.dueMillis())) continue;
+
+            try {
+                if (voteResultSnapshotService.closeIfDue(deadline.voteIdx()))
+                    log.info("투표 마감 voteIdx={}", deadline.voteIdx());
+            } catch (RuntimeException e) {
+                log.error("투표 마감 실패, 재시도 예약 voteIdx={}", deadline.voteIdx(), e);
+                long retryMillis = System.currentTimeMillis() + retryDelayMs;
+                if (deadlines.putIfAbsent(deadline.voteIdx(), retryMillis) == null)
+                    queue.offer(new Deadline(deadline.voteIdx(), retryMillis));
+            }
+        }
+    }
+
+    private record Deadline(Long voteIdx, long dueMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueMillis, ((Deadline) other).dueMillis);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.spinner.www.vote.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface VoteResultSnapshotService {
+
+    /**
+     * 투표 즉시 마감 후 결과 스냅샷 저장
+     * @param voteIdx Long 투표 idx
+     * @return boolean 이번 호출로 마감됐는지 (이미 마감된 투표면 false)
+     */
+    boolean close(Long voteIdx);
+
+    /**
+     * 마감 일자가 지난 투표만 마감 후 결과 스냅샷 저장
+     * @param voteIdx Long 투표 idx
+     * @return boolean 이번 호출로 마감됐는지 (마감 전이거나 이미 마감됐으면 false)
+     */
+    boolean closeIfDue(Long voteIdx);
+
+    /**
+     * 마감 결과 스냅샷 일괄 조회
+     * @param voteIdxList Collection<Long> 투표 idx 목록
+     * @return Map<Long, JsonNode> 투표 idx별 결과 (스냅샷이 없는 투표는 제외)
+     */
+    Map<Long, JsonNode> getSnapshots(Collection<Long> voteIdxList);
+}
@@ -0,0 +1,109 @@
+package com.spinner.www.vote.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spinner.www.vote.entity.Vote;
+import com.spinner.www.vote.entity.VoteResultSnapshot;
+import com.spinner.www.vote.io.VoteResultsCommunityResponse;
+import com.spinner.www.vote.mapper.VoteCustomMapper;
+import com.spinner.www.vote.repository.VoteCountJdbcRepo;
+import com.spinner.www.vote.repository.VoteRepo;
+import com.spinner.www.vote.repository.VoteResultSnapshotRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteResultSnapshotServiceImpl implements VoteResultSnapshotService {
+
+    private final VoteRepo voteRepo;
+    private final VoteResultSnapshotRepo voteResultSnapshotRepo;
+    private final VoteCountJdbcRepo voteCountJdbcRepo;
+    private final VoteCustomMapper voteCustomMapper;
+    private final ObjectMapper objectMapper;
+    private final VoteTallyPublisher voteTallyPublisher;
+
+    /**
+     * 투표 즉시 마감 후 결과 스냅샷 저장
+     * 마감 UPDATE 이후에 카운터를 읽도록 새 트랜잭션에서 처리
+     * @param voteIdx Long 투표 idx
+     * @return boolean 이번 호출로 마감됐는지 (이미 마감된 투표면 false)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean close(Long voteIdx) {
+        if (voteRepo.endVote(voteIdx) == 0) return false;
+        saveSnapshot(voteIdx);
+        return true;
+    }
+
+    /**
+     * 마감 일자가 지난 투표 마감 후 결과 스냅샷 저장
+     * 여러 서버가 같은 투표를 마감해도 조건부 UPDATE에 성공한 한 곳만 스냅샷을 저장
+     * @param voteIdx Long 투표 idx
+     * @return boolean 이번 호출로 마감됐는지
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean closeIfDue(Long voteIdx) {
+        if (voteRepo.endVoteIfDue(voteIdx, LocalDateTime.now()) == 0) return false;
+        saveSnapshot(voteIdx);
+        return true;
+    }
+
+    /**
+     * 마감 결과 스냅샷 일괄 조회
+     * @param voteIdxList Collection<Long> 투표 idx 목록
+     * @return Map<Long, JsonNode> 투표 idx별 결과 (스냅샷이 없는 투표는 제외)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, JsonNode> getSnapshots(Collection<Long> voteIdxList) {
+        Map<Long, JsonNode> snapshots = new HashMap<>();
+        if (voteIdxList.isEmpty()) return snapshots;
+
+        for (VoteResultSnapshot snapshot : voteResultSnapshotRepo.findAllById(voteIdxList)) {
+            try {
+                snapshots.put(snapshot.getVoteIdx(), objectMapper.readTree(snapshot.getResultJson()));
+            } catch (JsonProcessingException e) {
+                // 읽을 수 없는 스냅샷은 카운터로 계산하도록 제외
+                log.error("투표 결과 스냅샷 읽기 실패 voteIdx={}", snapshot.getVoteIdx(), e);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 마감 시점의 카운터로 결과 스냅샷 저장
+     * 스냅샷은 다시 계산되지 않으므로, 카운터를 vote_user 기준으로 먼저 맞춘다
+     * (카운터 컬럼 추가 이전 투표는 야간 보정 전까지 0이고, 마감 UPDATE로 투표 row가 잠겨 이후 참여와 겹치지 않음)
+     * @param voteIdx Long 투표 idx
+     */
+    private void saveSnapshot(Long voteIdx) {
+        voteTallyPublisher.publishEnded(voteIdx);
+        if (voteResultSnapshotRepo.existsById(voteIdx)) return;
+
+        voteCountJdbcRepo.reconcileItemCount(voteIdx - 1, voteIdx);
+        voteCountJdbcRepo.reconcileTotalCount(voteIdx - 1, voteIdx);
+
+        Vote vote = voteRepo.findById(voteIdx).orElseThrow(() -> new NullPointerException("Vote Idx를 찾을 수 없습니다."));
+        VoteResultsCommunityResponse result = voteCustomMapper.toVoteResultsCommunityResponse(vote);
+
+        try {
+            voteResultSnapshotRepo.save(VoteResultSnapshot.create(voteIdx, result.getTotalVotes(), objectMapper.writeValueAsString(result)));
+        } catch (JsonProcessingException e) {
+            // 마감도 함께 롤백되어 다음 시도에서 다시 처리
+            throw new IllegalStateException("투표 결과 스냅샷 저장 실패 voteIdx=" + voteIdx, e);
+        }
+    }
+}
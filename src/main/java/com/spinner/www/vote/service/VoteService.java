@@ -18,5 +18,5 @@ public interface VoteService {
 
     ResponseEntity<CommonResponse> endVote(Long voteIdx);
 
-    ResponseEntity<CommonResponse> selectVoteItem(VoteUserRequest voteUserRequest);
+    ResponseEntity<CommonResponse> selectVoteItem(VoteUserRequest voteUserRequest, String idempotencyKey);
 }
@@ -1,5 +1,8 @@
 package com.spinner.www.vote.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spinner.www.board.entity.Board;
 import com.spinner.www.board.repository.BoardRepo;
 import com.spinner.www.common.io.CommonResponse;
@@ -13,22 +16,34 @@ import com.spinner.www.vote.entity.*;
 import com.spinner.www.vote.io.*;
 import com.spinner.www.vote.mapper.VoteCustomMapper;
 import com.spinner.www.vote.mapper.VoteMapper;
+import com.spinner.www.vote.repository.VoteClaimRepo;
 import com.spinner.www.vote.repository.VoteItemRepo;
 import com.spinner.www.vote.repository.VoteQueryRepo;
 import com.spinner.www.vote.repository.VoteRepo;
+import com.spinner.www.vote.repository.VoteUserJdbcRepo;
 import com.spinner.www.vote.repository.VoteUserRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -45,6 +60,18 @@ public class VoteServiceImpl implements VoteService {
     private final MemberRepo memberRepo;
     private final VoteMapper voteMapper;
     private final VoteQueryRepo voteQueryRepo;
+    private final VoteResultSnapshotService voteResultSnapshotService;
+    private final VoteDeadlineScheduler voteDeadlineScheduler;
+    private final VoteClaimRepo voteClaimRepo;
+    private final VoteTallyPublisher voteTallyPublisher;
+    private final VoteUserJdbcRepo voteUserJdbcRepo;
+    private final ObjectMapper objectMapper;
+
+    @Value("${vote.claim.ttl-seconds:86400}")
+    private long claimTtlSeconds;
+
+    @Value("${vote.idempotency.ttl-seconds:86400}")
+    private long idempotencyTtlSeconds;
 
     /**
      * 투표 생성
@@ -63,11 +90,15 @@ public class VoteServiceImpl implements VoteService {
 
         // 투표 생성 후 idx 반환
         voteRepo.save(vote);
+        boardRepo.increaseVoteCount(voteCreateDto.getBoardIdx(), 1);
         List<VoteItemCreateDto> voteItemCreateDtoList =
                 voteCustomMapper.voteItemCreateRequestListToVoteItemDtoList(voteCreateRequest.getVoteItemCreateRequestList());
 
         // 투표 항목 저장
         insertVoteItems(vote, voteItemCreateDtoList);
+
+        // 마감 일자에 자동 마감되도록 등록 (커밋 이후)
+        voteDeadlineScheduler.schedule(vote.getId(), vote.getEndDatetime());
         VoteResponse voteResponse = VoteResponse.builder().voteIdx(vote.getId()).build();
         return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(voteResponse), HttpStatus.OK);
     }
@@ -100,6 +131,7 @@ public class VoteServiceImpl implements VoteService {
         // 게시물 클릭 시
         // 커뮤니티는 투표 완료가 없으며, 투표한 사람만 결과 확인이 가능함
         // 투표 상태에 따라 기본 베이스가 변경됨 (ing, multiple 항목, end 결과)
+        // 투표 수와 관계없이 투표+항목 조회, 참여 여부 조회 두 번의 쿼리로 처리
         VoteSelectDto voteSelectDto = voteMapper.toVoteSelectDto(boardIdx);
         Board board = boardRepo.getReferenceById(voteSelectDto.getBoardIdx());
         List<Vote> votes = voteRepo.findVotesByBoard(board);
@@ -109,45 +141,33 @@ public class VoteServiceImpl implements VoteService {
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.DATA_NOT_FOUND), HttpStatus.NOT_FOUND);
         }
 
+        // 로그인 사용자가 참여한 투표 idx (비로그인이면 빈 Set)
+        List<Long> voteIdxList = votes.stream().map(Vote::getId).toList();
+        Set<Long> votedVoteIdx = voteQueryRepo.findVotedVoteIdx(sessionInfo.getMemberIdx(), voteIdxList);
+
+        // 마감된 투표의 최종 결과 스냅샷 (마감된 투표가 없으면 조회하지 않음)
+        List<Long> endedVoteIdxList = votes.stream()
+                .filter(vote -> vote.getVoteStatus() == VoteStatus.end)
+                .map(Vote::getId)
+                .toList();
+        Map<Long, JsonNode> snapshots = voteResultSnapshotService.getSnapshots(endedVoteIdxList);
+
         // (투표 진행 중 && 투표 완료된 리스폰트) 리스트 결과값 반환
         List<Object> voteResponseList = new ArrayList<>();
 
         for (Vote vote : votes) {
 
-            // (1) 투표가 진행 중이거나 중복 투표가 가능하면
+            // (1) 투표가 진행 중이거나 중복 투표가 가능하면 참여 여부와 함께 항목 반환
             if (vote.getVoteStatus() == VoteStatus.ing || vote.getVoteStatus() == VoteStatus.multiple) {
-
-                // 투표 진행 중 리스폰스
-                VoteSelectResponse voteSelectResponse;
-
-                // (1-1) 로그인 여부 확인
-                Long memberIdx = sessionInfo.getMemberIdx();
-
-                if (memberIdx != null) {
-                    // (1-2) 로그인된 사용자 처리
-                    Member member = memberRepo.getReferenceById(memberIdx);
-                    VoteUser voteUser = voteUserRepo.findByMember(member);
-
-                    if (voteUser != null) {
-                        // (1-3) 유저가 투표에 참여했으면
-                        voteSelectResponse = voteCustomMapper.createVoteSelectResponse(vote, votes, true);
-                    } else {
-                        // (1-4) 유저가 투표에 참여하지 않았으면
-                        voteSelectResponse = voteCustomMapper.createVoteSelectResponse(vote, votes, false);
-                    }
-                    voteResponseList.add(voteSelectResponse);
-                } else {
-                    // (1-5) 비로그인 사용자 처리
-                    voteSelectResponse = voteCustomMapper.createVoteSelectResponse(vote, votes, false);
-                    voteResponseList.add(voteSelectResponse);
-                }
+                boolean userVoted = votedVoteIdx.contains(vote.getId());
+                voteResponseList.add(voteCustomMapper.createVoteSelectResponse(vote, votes, userVoted));
 
             // (2) 투표가 완료됐으면
             } else {
                 if (vote.getVoteType() == VoteType.community) {
-                    // 투표 완료 리스폰스
-                    VoteResultsCommunityResponse voteResultsCommunityResponse = voteQueryRepo.findVoteCommunityResultsByVote(vote);
-                    voteResponseList.add(voteResultsCommunityResponse);
+                    // 투표 완료 리스폰스 (마감 스냅샷, 스냅샷이 없으면 항목의 투표수 카운터로 계산)
+                    JsonNode snapshot = snapshots.get(vote.getId());
+                    voteResponseList.add(snapshot != null ? snapshot : voteCustomMapper.toVoteResultsCommunityResponse(vote));
                 } else if (vote.getVoteType() == VoteType.study) {
                     // [MEMO] 스터디일 경우, 참여자의 닉네임이 공개된다.
                     // 각 항목을 선택한 참여자가 보이며, 스터디 미참여 인원 또한 볼 수 있다.
@@ -174,12 +194,18 @@ public class VoteServiceImpl implements VoteService {
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.VOTE_RESULT_NOT_ACCESS), HttpStatus.NOT_FOUND);
         }
 
-        Member member = memberRepo.getReferenceById(sessionInfo.getMemberIdx());
-        VoteUser voteUser = voteUserRepo.findByMember(member);
+        // 이 투표에 참여했는지 (다른 투표 참여 여부와 무관)
+        boolean userVoted = voteUserRepo.existsByVoteIdAndMemberMemberIdx(voteIdx, sessionInfo.getMemberIdx());
 
         // 커뮤니티의 경우, 유저 투표를 완료한 상태라면
-        if (vote.getVoteType() == VoteType.community && voteUser != null) {
-            VoteResultsCommunityResponse voteResultsCommunityResponse = voteQueryRepo.findVoteCommunityResultsByVote(vote);
+        if (vote.getVoteType() == VoteType.community && userVoted) {
+            // 마감된 투표는 마감 시점의 스냅샷 반환
+            if (vote.getVoteStatus() == VoteStatus.end) {
+                JsonNode snapshot = voteResultSnapshotService.getSnapshots(List.of(voteIdx)).get(voteIdx);
+                if (snapshot != null)
+                    return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(snapshot), HttpStatus.OK);
+            }
+            VoteResultsCommunityResponse voteResultsCommunityResponse = voteCustomMapper.toVoteResultsCommunityResponse(vote);
             return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(voteResultsCommunityResponse), HttpStatus.OK);
 
             // 스터디의 경우, 투표 마감이 된 상태라면
@@ -212,6 +238,10 @@ public class VoteServiceImpl implements VoteService {
 
         vote.update(voteDto);
 
+        // 마감 일자가 바뀌면 마감 예약 변경 (커밋 이후)
+        if (voteDto.getEndDatetime() != null && vote.getVoteStatus() != VoteStatus.end)
+            voteDeadlineScheduler.schedule(vote.getId(), vote.getEndDatetime());
+
         List<Long> voteItemIdResponse = new ArrayList<>();
 
         // 투표 항목 수정
@@ -268,7 +298,13 @@ public class VoteServiceImpl implements VoteService {
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
         }
 
+        // 이미 삭제된 투표는 게시글 투표수에서 다시 빼지 않음
+        if ("N".equals(vote.getVoteIsRemoved()))
+            boardRepo.increaseVoteCount(vote.getBoard().getBoardIdx(), -1);
+
         vote.softDelete(voteDto);
+        // 삭제된 투표는 마감 처리하지 않도록 예약 취소
+        voteDeadlineScheduler.cancel(vote.getId());
 
         List<Long> voteItemIdResponse = new ArrayList<>();
 
@@ -326,7 +362,11 @@ public class VoteServiceImpl implements VoteService {
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.FORBIDDEN);
         }
 
-        vote.statusUpdate(voteDto);
+        // 마감과 결과 스냅샷 저장, 이미 마감된 투표면 실패
+        if (!voteResultSnapshotService.close(vote.getId())) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.END_VOTE), HttpStatus.BAD_REQUEST);
+        }
+        voteDeadlineScheduler.cancel(vote.getId());
 
         VoteResponse voteResponse = VoteResponse.builder().voteIdx(vote.getId()).build();
 
@@ -335,26 +375,91 @@ public class VoteServiceImpl implements VoteService {
 
     /**
      * 투표 선택
+     * 멱등 키가 있으면 같은 키로 재시도한 요청에 처음 응답을 그대로 반환
      * @param voteUserRequest VoteUserRequest
+     * @param idempotencyKey String 멱등 키 (없으면 null)
      * @return ResponseEntity<CommonResponse>
      */
     @Override
     @Transactional
-    public ResponseEntity<CommonResponse> selectVoteItem(VoteUserRequest voteUserRequest) {
+    public ResponseEntity<CommonResponse> selectVoteItem(VoteUserRequest voteUserRequest, String idempotencyKey) {
 
         // 로그인 사용자와 투표자가 일치하지 않는 경우
         if (!sessionInfo.getMemberIdx().equals(voteUserRequest.getMemberIdx())) {
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.VOTER_USER_MISMATCH), HttpStatus.BAD_REQUEST);
         }
 
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return participate(voteUserRequest);
+        }
+
+        Long memberIdx = voteUserRequest.getMemberIdx();
+        Duration idempotencyTtl = Duration.ofSeconds(idempotencyTtlSeconds);
+        String stored = voteClaimRepo.reserve(memberIdx, idempotencyKey, idempotencyTtl);
+        if (stored != null) {
+            // 같은 키의 요청이 아직 처리 중인 경우
+            if (stored.isEmpty()) {
+                return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.REQUEST_IN_PROGRESS), HttpStatus.CONFLICT);
+            }
+            return readIdempotentResponse(stored);
+        }
+
+        // 커밋되면 응답 저장, 롤백되면 예약을 풀어 다시 처리할 수 있게 함
+        AtomicReference<ResponseEntity<CommonResponse>> responseRef = new AtomicReference<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ResponseEntity<CommonResponse> response = responseRef.get();
+                if (status == STATUS_COMMITTED && response != null) {
+                    try {
+                        voteClaimRepo.complete(memberIdx, idempotencyKey, writeIdempotentResponse(response), idempotencyTtl);
+                        return;
+                    } catch (JsonProcessingException e) {
+                        log.error("투표 멱등 응답 저장 실패 memberIdx={}", memberIdx, e);
+                    }
+                }
+                voteClaimRepo.cancel(memberIdx, idempotencyKey);
+            }
+        });
+
+        ResponseEntity<CommonResponse> response = participate(voteUserRequest);
+        responseRef.set(response);
+        return response;
+    }
+
+    /**
+     * 투표 참여 저장
+     * 회원별 선점으로 동시 참여를 막고, 유니크 키로 같은 항목의 중복 저장을 막는다 (직렬화 트랜잭션 없음)
+     * @param voteUserRequest VoteUserRequest
+     * @return ResponseEntity<CommonResponse>
+     */
+    private ResponseEntity<CommonResponse> participate(VoteUserRequest voteUserRequest) {
+
         VoteUserCreateDto voteUserCreateDto = voteCustomMapper.toVoteUserCreateDto(voteUserRequest);
+        Long voteIdx = voteUserCreateDto.getVoteIdx();
+        Long memberIdx = voteUserCreateDto.getMemberIdx();
+
+        // 같은 회원의 동시 참여는 한 요청만 선점 (여러 서버에서도 동일)
+        if (!voteClaimRepo.claim(voteIdx, memberIdx, Duration.ofSeconds(claimTtlSeconds))) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.VOTE_NOT_UPDATE), HttpStatus.BAD_REQUEST);
+        }
+
+        // 참여가 저장되지 않고 끝나면 선점 해제
+        AtomicBoolean voted = new AtomicBoolean(false);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED || !voted.get()) voteClaimRepo.release(voteIdx, memberIdx);
+            }
+        });
 
         // 필요한 객체 프록시 반환
-        Member member = memberRepo.getReferenceById(voteUserCreateDto.getMemberIdx());
-        Vote vote = voteRepo.getReferenceById(voteUserCreateDto.getVoteIdx());
+        Member member = memberRepo.getReferenceById(memberIdx);
+        Vote vote = voteRepo.getReferenceById(voteIdx);
 
-        // 중복 투표 체크
+        // 중복 투표 체크 (선점이 만료된 이후의 재참여)
         if (!voteQueryRepo.findVoteUser(member, vote)) {
+            voted.set(true);
             return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.VOTE_NOT_UPDATE), HttpStatus.BAD_REQUEST);
         }
 
@@ -364,36 +469,74 @@ public class VoteServiceImpl implements VoteService {
         // voteItem 일괄 조회
         List<Long> voteItemIds = voteItemUserCreateDtoList.stream()
                 .map(VoteItemUserCreateDto::getVoteItemIdx)
+                .distinct()
                 .toList();
         List<VoteItem> voteItems = voteItemRepo.findAllById(voteItemIds);
 
-        // 투표 항목과 투표가 일치하지 않으면
-        if (!voteQueryRepo.findVote(vote, voteItemIds)) {
-            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.BAD_REQUEST);
+        if (voteItems.size() != voteItemIds.size()) {
+            throw new NullPointerException("투표 항목을 찾을 수 없습니다.");
         }
 
-        // 조회된 VoteItems Map 변환
-        // [stream] 리스트 타입인 voteItem 맵으로 전환, 키로 Id, 밸류로 voteItem
-        Map<Long, VoteItem> voteItemMap = voteItems.stream()
-                .collect(Collectors.toMap(VoteItem::getId, voteItem -> voteItem));
+        // 투표 항목과 투표가 일치하지 않거나 삭제된 항목이면
+        boolean invalidItem = voteItems.stream()
+                .anyMatch(voteItem -> !voteIdx.equals(voteItem.getVote().getId()) || !"N".equals(voteItem.getVoteItemIsRemoved()));
+        if (invalidItem) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.FORBIDDEN), HttpStatus.BAD_REQUEST);
+        }
 
-        List<Long> voteUserResponse = new ArrayList<>();
+        // 총 투표수 카운터 증가, 마감됐거나 마감 일자가 지났으면 저장하지 않고 실패
+        // (마감 처리와 같은 row 잠금을 잡으므로 마감 스냅샷 이후의 투표는 들어오지 않음)
+        if (voteRepo.increaseVoteTotalCountIfOpen(voteIdx, voteItemIds.size(), LocalDateTime.now()) == 0) {
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.END_VOTE), HttpStatus.BAD_REQUEST);
+        }
 
-        // VoteUser 생성
-        List<VoteUser> voteUsers = new ArrayList<>();
-        for (VoteItemUserCreateDto voteItemDto : voteItemUserCreateDtoList) {
-            VoteItem voteItem = voteItemMap.get(voteItemDto.getVoteItemIdx());
-            if (voteItem == null) {
-                throw new NullPointerException("투표 항목을 찾을 수 없습니다.");
-            }
-            VoteUser voteUser = VoteUser.create(member, vote, voteItem);
-            voteUsers.add(voteUser);
-            voteUserResponse.add(voteItemDto.getVoteItemIdx());
+        // 이미 저장된 항목이 있으면 동시에 들어온 같은 참여가 먼저 저장된 것이므로 카운터까지 롤백
+        if (voteUserJdbcRepo.insertIgnoreAll(voteIdx, memberIdx, voteItemIds) != voteItemIds.size()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ResponseEntity<>(ResponseVOUtils.getFailResponse(CommonResultCode.VOTE_NOT_UPDATE), HttpStatus.BAD_REQUEST);
         }
+        voted.set(true);
+
+        // 항목별 투표수 카운터 증가 (결과 조회 시 vote_user 집계 없이 카운터로 계산)
+        voteItemIds.forEach(voteItemIdx -> voteItemRepo.increaseVoteItemCount(voteItemIdx, 1L));
+
+        // 결과를 보고 있는 구독자에게 변경분 발행 (커밋 이후, 주기마다 모아서)
+        voteTallyPublisher.publishVoted(voteIdx, voteItemIds);
+
+        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(voteItemIds), HttpStatus.OK);
+    }
 
-        voteUserRepo.saveAll(voteUsers);
+    /**
+     * 멱등 응답 직렬화 (상태 코드 + 응답 본문)
+     * @param response ResponseEntity<CommonResponse>
+     * @return String
+     */
+    private String writeIdempotentResponse(ResponseEntity<CommonResponse> response) throws JsonProcessingException {
+        Map<String, Object> stored = new HashMap<>();
+        stored.put("status", response.getStatusCode().value());
+        stored.put("body", response.getBody());
+        return objectMapper.writeValueAsString(stored);
+    }
 
-        return new ResponseEntity<>(ResponseVOUtils.getSuccessResponse(voteUserResponse), HttpStatus.OK);
+    /**
+     * 저장된 멱등 응답 복원
+     * @param stored String 저장된 응답 JSON
+     * @return ResponseEntity<CommonResponse>
+     */
+    private ResponseEntity<CommonResponse> readIdempotentResponse(String stored) {
+        try {
+            JsonNode node = objectMapper.readTree(stored);
+            JsonNode body = node.path("body");
+            JsonNode results = body.get("results");
+            CommonResponse commonResponse = CommonResponse.builder()
+                    .code(body.path("code").asInt())
+                    .message(body.path("message").asText())
+                    .results(results == null || results.isNull() ? null : results)
+                    .build();
+            return new ResponseEntity<>(commonResponse, HttpStatusCode.valueOf(node.path("status").asInt()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("투표 멱등 응답 읽기 실패", e);
+        }
     }
 
 }
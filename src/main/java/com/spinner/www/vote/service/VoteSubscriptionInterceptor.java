@@ -0,0 +1,69 @@
+package com.spinner.www.vote.service;
+
+import com.spinner.www.config.security.StompPrincipal;
+import com.spinner.www.vote.entity.Vote;
+import com.spinner.www.vote.entity.VoteType;
+import com.spinner.www.vote.repository.VoteRepo;
+import com.spinner.www.vote.repository.VoteUserRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표 실시간 집계(/room/vote/{voteIdx}) 구독 권한 확인
+ * 개인 투표 결과 조회(selectVoteResult)와 같은 규칙으로, 투표에 참여한 회원만 커뮤니티 투표 집계를 구독
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String DESTINATION_PREFIX = "/room/vote/";
+
+    private final VoteRepo voteRepo;
+    private final VoteUserRepo voteUserRepo;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) return message;
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) return message;
+
+        Long voteIdx = getVoteIdx(destination);
+        Long memberIdx = StompPrincipal.getMemberIdx(accessor.getUser());
+        if (voteIdx != null && memberIdx != null && canSubscribe(voteIdx, memberIdx)) return message;
+
+        // 권한이 없으면 구독만 버림 (같은 연결의 채팅 구독은 유지, 투표 후 다시 구독)
+        log.debug("투표 집계 구독 거부 destination={}, memberIdx={}", destination, memberIdx);
+        return null;
+    }
+
+    /**
+     * 투표 집계 구독 가능 여부
+     * @param voteIdx Long 투표 idx
+     * @param memberIdx Long 회원 idx
+     * @return boolean 삭제되지 않은 커뮤니티 투표에 참여했는지
+     */
+    private boolean canSubscribe(Long voteIdx, Long memberIdx) {
+        Vote vote = voteRepo.findById(voteIdx).orElse(null);
+        if (vote == null || "Y".equals(vote.getVoteIsRemoved())) return false;
+        if (vote.getVoteType() != VoteType.community) return false;
+        return voteUserRepo.existsByVoteIdAndMemberMemberIdx(voteIdx, memberIdx);
+    }
+
+    private Long getVoteIdx(String destination) {
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.spinner.www.vote.service;
+
+import com.spinner.www.vote.io.VoteTallyResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투표 실시간 집계 발행
+ * 투표별 변경분을 모아 주기마다 최대 한 번 /room/vote/{voteIdx} 로 발행 (직렬화 한 번을 구독자 전체가 공유)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTallyPublisher {
+
+    private static final String DESTINATION_PREFIX = "/room/vote/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private static class PendingTally {
+        private long totalVotesDelta;
+        private final Map<Long, Long> voteItemDeltas = new HashMap<>();
+        private boolean ended;
+    }
+
+    private final ConcurrentHashMap<Long, PendingTally> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 투표 참여 변경분 등록 (트랜잭션 안이면 커밋 이후 등록)
+     * @param voteIdx Long 투표 idx
+     * @param voteItemIdxList Collection<Long> 선택한 투표 항목 idx
+     */
+    public void publishVoted(Long voteIdx, Collection<Long> voteItemIdxList) {
+        afterCommit(() -> pending.compute(voteIdx, (key, tally) -> {
+            if (tally == null) tally = new PendingTally();
+            tally.totalVotesDelta += voteItemIdxList.size();
+            for (Long voteItemIdx : voteItemIdxList) tally.voteItemDeltas.merge(voteItemIdx, 1L, Long::sum);
+            return tally;
+        }));
+    }
+
+    /**
+     * 투표 마감 등록 (트랜잭션 안이면 커밋 이후 등록)
+     * @param voteIdx Long 투표 idx
+     */
+    public void publishEnded(Long voteIdx) {
+        afterCommit(() -> pending.compute(voteIdx, (key, tally) -> {
+            if (tally == null) tally = new PendingTally();
+            tally.ended = true;
+            return tally;
+        }));
+    }
+
+    /**
+     * 모인 변경분 발행
+     */
+    @Scheduled(fixedDelayString = "${vote.tally.publish-interval-ms:500}")
+    public void flush() {
+        for (Long voteIdx : pending.keySet()) {
+            PendingTally tally = pending.remove(voteIdx);
+            if (tally == null) continue;
+
+            VoteTallyResponse response = VoteTallyResponse.builder()
+                    .voteIdx(voteIdx)
+                    .totalVotesDelta(tally.totalVotesDelta)
+                    .voteItemDeltas(tally.voteItemDeltas)
+                    .ended(tally.ended)
+                    .build();
+            try {
+                messagingTemplate.convertAndSend(DESTINATION_PREFIX + voteIdx, response);
+            } catch (MessagingException e) {
+                // 놓친 변경분은 클라이언트가 재조회로 맞춘다
+                log.warn("투표 집계 발행 실패 voteIdx={}", voteIdx, e);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
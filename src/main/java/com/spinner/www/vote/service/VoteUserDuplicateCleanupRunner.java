@@ -0,0 +1,34 @@
+package com.spinner.www.vote.service;
+
+import com.spinner.www.vote.repository.VoteUserJdbcRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유니크 키 추가 이전에 쌓인 중복 투표 참여 정리
+ * 중복이 남아 있으면 hbm2ddl 이 유니크 키를 만들지 못하므로, 정리 후 빠진 유니크 키를 직접 추가한다.
+ * 투표 참여 저장(INSERT IGNORE)은 이 유니크 키에 의존한다.
+ * 투표수는 투표 카운터 보정 작업에서 다시 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteUserDuplicateCleanupRunner implements ApplicationRunner {
+
+    private static final String UNIQUE_KEY = "uk_vote_user_vote_member_item";
+
+    private final VoteUserJdbcRepo voteUserJdbcRepo;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int deleted = voteUserJdbcRepo.deleteDuplicates();
+        if (deleted > 0) log.info("중복 투표 참여 정리 deleted={}", deleted);
+
+        if (voteUserJdbcRepo.existsIndex(UNIQUE_KEY)) return;
+        voteUserJdbcRepo.addUniqueKey(UNIQUE_KEY, "vote_idx, member_idx, vote_item_idx");
+        log.info("투표 참여 유니크 키 추가 index={}", UNIQUE_KEY);
+    }
+}
@@ -0,0 +1,61 @@
+package com.spinner.www.chat.dto;
+
+import com.spinner.www.chat.constants.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatEnvelopeTest {
+
+    private static final byte[] PAYLOAD = "{\"roomIdx\":1024,\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("프레임을 읽으면 헤더의 채팅방/메시지 타입과 본문이 그대로 나온다")
+    void encodeDecode() {
+        byte[] frame = ChatEnvelope.encode(1024L, MessageType.IMAGE, PAYLOAD);
+
+        ChatEnvelope envelope = ChatEnvelope.decode(frame);
+
+        assertThat(frame).hasSize(ChatEnvelope.HEADER_SIZE + PAYLOAD.length);
+        assertThat(envelope).isNotNull();
+        assertThat(envelope.getRoomIdx()).isEqualTo(1024L);
+        assertThat(envelope.getMessageType()).isEqualTo(MessageType.IMAGE);
+        assertThat(envelope.getPayload()).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("본문이 비어 있어도 헤더만으로 읽힌다")
+    void encodeDecodeEmptyPayload() {
+        ChatEnvelope envelope = ChatEnvelope.decode(ChatEnvelope.encode(Long.MAX_VALUE, MessageType.TEXT, new byte[0]));
+
+        assertThat(envelope).isNotNull();
+        assertThat(envelope.getRoomIdx()).isEqualTo(Long.MAX_VALUE);
+        assertThat(envelope.getPayload()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 다른 프레임은 null")
+    void decodeInvalidFrame() {
+        byte[] frame = ChatEnvelope.encode(1L, MessageType.TEXT, PAYLOAD);
+
+        // 헤더보다 짧은 프레임
+        assertThat(ChatEnvelope.decode(null)).isNull();
+        assertThat(ChatEnvelope.decode(new byte[ChatEnvelope.HEADER_SIZE - 1])).isNull();
+
+        // 다른 버전
+        byte[] otherVersion = frame.clone();
+        otherVersion[0] = ChatEnvelope.VERSION + 1;
+        assertThat(ChatEnvelope.decode(otherVersion)).isNull();
+
+        // 없는 메시지 타입 코드
+        byte[] unknownType = frame.clone();
+        unknownType[1] = 0;
+        assertThat(ChatEnvelope.decode(unknownType)).isNull();
+
+        // 이전 경로의 JSON 문자열 발행
+        assertThat(ChatEnvelope.decode(PAYLOAD)).isNull();
+    }
+}
@@ -0,0 +1,201 @@
+package com.spinner.www.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spinner.www.chat.dto.ChatMessageDto;
+import com.spinner.www.chat.io.MessageIo;
+import com.spinner.www.chat.repository.ChatRoomMemberRepo;
+import com.spinner.www.chat.repository.ChatSeqRedisRepo;
+import com.spinner.www.chat.repository.MessageJdbcRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageServiceImplTest {
+
+    private static final long ROOM_IDX = 1L;
+    private static final long MEMBER_IDX = 42L;
+    private static final String DEAD_LETTER_KEY = "chat:message:dead-letter";
+    private static final String POISON = "poison";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 저장에 성공한 메시지 내용
+    private final List<String> persisted = Collections.synchronizedList(new ArrayList<>());
+
+    private MessageJdbcRepo messageJdbcRepo;
+    private ChatSeqRedisRepo chatSeqRedisRepo;
+    private ListOperations<String, byte[]> deadLetters;
+    private ChatMessageServiceImpl chatMessageService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        messageJdbcRepo = mock(MessageJdbcRepo.class);
+        chatSeqRedisRepo = mock(ChatSeqRedisRepo.class);
+        ChatRoomMemberRepo chatRoomMemberRepo = mock(ChatRoomMemberRepo.class);
+        RedisTemplate<String, byte[]> chatFrameRedisTemplate = mock(RedisTemplate.class);
+        deadLetters = mock(ListOperations.class);
+
+        AtomicLong seq = new AtomicLong();
+        when(chatSeqRedisRepo.next(anyLong())).thenAnswer(invocation -> seq.incrementAndGet());
+        when(chatRoomMemberRepo.existsByChatRoomChatRoomIdxAndMemberMemberIdx(ROOM_IDX, MEMBER_IDX)).thenReturn(true);
+        when(chatFrameRedisTemplate.opsForList()).thenReturn(deadLetters);
+
+        chatMessageService = new ChatMessageServiceImpl(messageJdbcRepo, chatSeqRedisRepo,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                null, chatRoomMemberRepo, null, null, null, chatFrameRedisTemplate, null, objectMapper);
+        ReflectionTestUtils.setField(chatMessageService, "capacity", 100);
+        ReflectionTestUtils.setField(chatMessageService, "batchSize", 8);
+        ReflectionTestUtils.setField(chatMessageService, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(chatMessageService, "offerTimeoutMs", 100L);
+        ReflectionTestUtils.setField(chatMessageService, "retryDelayMs", 5L);
+        ReflectionTestUtils.setField(chatMessageService, "deadLetterKey", DEAD_LETTER_KEY);
+        ReflectionTestUtils.setField(chatMessageService, "seqReserveSize", 1000L);
+        ReflectionTestUtils.setField(chatMessageService, "memberCacheTtlSeconds", 60L);
+        chatMessageService.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        chatMessageService.destroy();
+    }
+
+    @Test
+    @DisplayName("보낸 사람은 클라이언트 값이 아닌 세션 회원이고, 길이 초과/비멤버/비로그인 메시지는 거절한다")
+    void submitValidation() throws Exception {
+        ChatMessageDto accepted = chatMessageService.submit(messageIo(999L, "hi"), MEMBER_IDX);
+        assertThat(accepted).isNotNull();
+        assertThat(accepted.getMemberIdx()).isEqualTo(MEMBER_IDX);
+        assertThat(accepted.getMessageSeq()).isEqualTo(1L);
+
+        // 컬럼 길이는 문자 수 기준 (이모지 255자는 허용)
+        assertThat(chatMessageService.submit(messageIo(null, "😀".repeat(255)), MEMBER_IDX)).isNotNull();
+        assertThat(chatMessageService.submit(messageIo(null, "a".repeat(256)), MEMBER_IDX)).isNull();
+
+        // 채팅방 멤버가 아니거나 로그인하지 않은 세션
+        assertThat(chatMessageService.submit(messageIo(MEMBER_IDX, "hi"), 999L)).isNull();
+        assertThat(chatMessageService.submit(messageIo(MEMBER_IDX, "hi"), null)).isNull();
+        assertThat(chatMessageService.submit(messageIo(null, ""), MEMBER_IDX)).isNull();
+
+        // 거절된 메시지는 순번을 쓰지 않는다
+        verify(chatSeqRedisRepo, times(2)).next(ROOM_IDX);
+        assertThat(meterRegistry.counter("spinner.chat.message.rejected").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("다시 시도해도 실패하는 메시지만 dead letter 로 보내고 같은 배치의 나머지는 저장한다")
+    void permanentFailureIsolated() throws Exception {
+        doAnswer(invocation -> {
+            List<ChatMessageDto> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(message -> POISON.equals(message.getContent()))) {
+                throw new DataIntegrityViolationException("Data too long for column 'message_content'");
+            }
+            batch.forEach(message -> persisted.add(message.getContent()));
+            return null;
+        }).when(messageJdbcRepo).insertAll(anyList());
+
+        List<String> contents = List.of("m1", "m2", "m3", POISON, "m5", "m6", "m7", "m8", "m9");
+        for (String content : contents) {
+            assertThat(chatMessageService.submit(messageIo(null, content), MEMBER_IDX)).isNotNull();
+        }
+
+        await(() -> persisted.size() == contents.size() - 1);
+        chatMessageService.destroy();
+
+        assertThat(persisted).containsExactlyInAnyOrderElementsOf(contents.stream().filter(content -> !POISON.equals(content)).toList());
+
+        ArgumentCaptor<byte[]> deadLetter = ArgumentCaptor.forClass(byte[].class);
+        verify(deadLetters, times(1)).rightPush(eq(DEAD_LETTER_KEY), deadLetter.capture());
+        assertThat(objectMapper.readTree(deadLetter.getValue()).path("content").asText()).isEqualTo(POISON);
+        assertThat(meterRegistry.counter("spinner.chat.message.dead-lettered").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("spinner.chat.message.persisted").count()).isEqualTo(contents.size() - 1.0);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류는 같은 배치를 다시 저장하고 중복 저장이나 dead letter 가 없다")
+    void transientFailureRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.getAndIncrement() < 2) throw new QueryTimeoutException("Lock wait timeout exceeded");
+            List<ChatMessageDto> batch = invocation.getArgument(0);
+            batch.forEach(message -> persisted.add(message.getContent()));
+            return null;
+        }).when(messageJdbcRepo).insertAll(anyList());
+
+        List<String> contents = List.of("m1", "m2", "m3", "m4", "m5");
+        for (String content : contents) chatMessageService.submit(messageIo(null, content), MEMBER_IDX);
+
+        await(() -> persisted.size() >= contents.size());
+        chatMessageService.destroy();
+
+        assertThat(attempts.get()).isGreaterThanOrEqualTo(3);
+        assertThat(persisted).containsExactlyInAnyOrderElementsOf(contents);
+        verify(deadLetters, never()).rightPush(anyString(), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("순번 키를 초기화하거나 구간의 첫 순번을 받으면 다음 구간 끝까지 DB에 예약한다")
+    void reserveSeqAhead() throws Exception {
+        ReflectionTestUtils.setField(chatMessageService, "seqReserveSize", 3L);
+        when(chatSeqRedisRepo.next(ROOM_IDX)).thenReturn(-1L, 8L, 9L, 10L);
+        when(messageJdbcRepo.findLastSeq(ROOM_IDX)).thenReturn(6L);
+        when(chatSeqRedisRepo.seed(ROOM_IDX, 6L)).thenReturn(7L);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(chatMessageService.submit(messageIo(null, "m" + i), MEMBER_IDX).getMessageSeq()).isEqualTo(7L + i);
+        }
+
+        // 초기화: 7 + 2 * 3, 구간 [10, 12] 의 첫 순번: 다음 구간 끝 15
+        verify(messageJdbcRepo).reserveSeq(ROOM_IDX, 13L);
+        verify(messageJdbcRepo).reserveSeq(ROOM_IDX, 15L);
+        verify(messageJdbcRepo, times(2)).reserveSeq(eq(ROOM_IDX), anyLong());
+    }
+
+    private MessageIo messageIo(Long memberIdx, String content) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(new MessageBody(ROOM_IDX, memberIdx, content)), MessageIo.class);
+    }
+
+    private record MessageBody(Long roomIdx, Long memberIdx, String content) {
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("저장 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.spinner.www.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatTopicRegistryTest {
+
+    private final MessageListener listener = (message, pattern) -> { };
+
+    private RedisMessageListenerContainer container;
+    private ChatTopicRegistry chatTopicRegistry;
+
+    @BeforeEach
+    void setUp() {
+        container = mock(RedisMessageListenerContainer.class);
+        chatTopicRegistry = new ChatTopicRegistry(container);
+    }
+
+    @Test
+    @DisplayName("첫 구독자에서만 채널을 구독하고 마지막 구독자가 나갈 때 해제한다")
+    void joinLeaveRefCount() {
+        ChannelTopic topic = new ChannelTopic("chat:room:7");
+
+        chatTopicRegistry.join(7L, listener);
+        chatTopicRegistry.join(7L, listener);
+        verify(container, times(1)).addMessageListener(listener, topic);
+        assertThat(chatTopicRegistry.getSubscribedRoomCount()).isEqualTo(1);
+
+        chatTopicRegistry.leave(7L, listener);
+        verify(container, never()).removeMessageListener(eq(listener), any(Topic.class));
+        assertThat(chatTopicRegistry.getSubscribedRoomCount()).isEqualTo(1);
+
+        chatTopicRegistry.leave(7L, listener);
+        verify(container, times(1)).removeMessageListener(listener, topic);
+        assertThat(chatTopicRegistry.getSubscribedRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 채팅방에서 나가도 아무 일도 없다")
+    void leaveWithoutJoin() {
+        chatTopicRegistry.leave(7L, listener);
+
+        verify(container, never()).removeMessageListener(eq(listener), any(Topic.class));
+        assertThat(chatTopicRegistry.getSubscribedRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독 중이 아닌 채팅방도 같은 채널 이름으로 발행한다")
+    void getTopic() {
+        ChannelTopic unsubscribed = chatTopicRegistry.getTopic(3L);
+        chatTopicRegistry.join(3L, listener);
+
+        assertThat(unsubscribed.getTopic()).isEqualTo("chat:room:3");
+        assertThat(chatTopicRegistry.getTopic(3L)).isEqualTo(unsubscribed);
+    }
+
+    @Test
+    @DisplayName("동시에 들어오고 나가도 채널 구독은 한 번만 유지되고 끝나면 모두 해제된다")
+    void concurrentJoinLeave() throws Exception {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger added = new AtomicInteger();
+        doAnswer(invocation -> {
+            added.incrementAndGet();
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            return null;
+        }).when(container).addMessageListener(any(MessageListener.class), any(Topic.class));
+        doAnswer(invocation -> {
+            active.decrementAndGet();
+            return null;
+        }).when(container).removeMessageListener(any(MessageListener.class), any(Topic.class));
+
+        int threads = 8;
+        int iterations = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        chatTopicRegistry.join(1L, listener);
+                        chatTopicRegistry.leave(1L, listener);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(added.get()).isPositive();
+        assertThat(maxActive.get()).isEqualTo(1);
+        assertThat(active.get()).isZero();
+        assertThat(chatTopicRegistry.getSubscribedRoomCount()).isZero();
+    }
+}
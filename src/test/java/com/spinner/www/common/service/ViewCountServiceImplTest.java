@@ -0,0 +1,151 @@
+package com.spinner.www.common.service;
+
+import com.spinner.www.common.repository.ViewCountJdbcRepo;
+import com.spinner.www.constants.ViewCountType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ViewCountServiceImplTest {
+
+    // DB에 반영된 조회수 (대상 idx 별 누적)
+    private final Map<Long, Long> persisted = new ConcurrentHashMap<>();
+
+    private ViewCountJdbcRepo viewCountJdbcRepo;
+    private ViewCountServiceImpl viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        viewCountJdbcRepo = mock(ViewCountJdbcRepo.class);
+        doAnswer(invocation -> {
+            Map<Long, Long> deltaMap = invocation.getArgument(1);
+            deltaMap.forEach((idx, delta) -> persisted.merge(idx, delta, Long::sum));
+            return List.of();
+        }).when(viewCountJdbcRepo).increaseAll(eq(ViewCountType.BOARD), anyMap());
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        viewCountService = new ViewCountServiceImpl(viewCountJdbcRepo, null, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("반영 중에 들어온 조회수도 유실되거나 두 번 반영되지 않는다")
+    void flushUnderConcurrentIncrease() throws Exception {
+        int writers = 8;
+        int increments = 20_000;
+        int targets = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger flushes = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < increments; i++) viewCountService.increase(ViewCountType.BOARD, (long) (i % targets));
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    viewCountService.flush();
+                    flushes.incrementAndGet();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+            writing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        viewCountService.flush();
+
+        assertThat(flushes.get()).isPositive();
+        long expectedPerTarget = (long) writers * increments / targets;
+        for (long idx = 0; idx < targets; idx++) {
+            assertThat(persisted.get(idx)).as("idx=%d", idx).isEqualTo(expectedPerTarget);
+            assertThat(viewCountService.getPendingCount(ViewCountType.BOARD, idx)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 버퍼로 돌아가 다음 반영에 포함된다")
+    void flushFailureRequeued() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (fail.getAndSet(false)) throw new IllegalStateException("db down");
+            Map<Long, Long> deltaMap = invocation.getArgument(1);
+            deltaMap.forEach((idx, delta) -> persisted.merge(idx, delta, Long::sum));
+            return List.of();
+        }).when(viewCountJdbcRepo).increaseAll(eq(ViewCountType.BOARD), anyMap());
+
+        for (int i = 0; i < 3; i++) viewCountService.increase(ViewCountType.BOARD, 1L);
+        viewCountService.flush();
+
+        assertThat(persisted).isEmpty();
+        assertThat(viewCountService.getViewCount(ViewCountType.BOARD, 1L, 10L)).isEqualTo(13L);
+
+        viewCountService.increase(ViewCountType.BOARD, 1L);
+        viewCountService.flush();
+
+        assertThat(persisted).containsEntry(1L, 4L);
+        assertThat(viewCountService.getPendingCount(ViewCountType.BOARD, 1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("일부 행만 실패하면 그 행만 버퍼로 돌아가고 반영된 행은 다시 반영되지 않는다")
+    void partialFailureRequeuesOnlyFailedRows() {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            Map<Long, Long> deltaMap = invocation.getArgument(1);
+            boolean failing = fail.getAndSet(false);
+            deltaMap.forEach((idx, delta) -> {
+                if (!failing || idx != 2L) persisted.merge(idx, delta, Long::sum);
+            });
+            return failing ? List.of(2L) : List.of();
+        }).when(viewCountJdbcRepo).increaseAll(eq(ViewCountType.BOARD), anyMap());
+
+        viewCountService.increase(ViewCountType.BOARD, 1L);
+        viewCountService.increase(ViewCountType.BOARD, 2L);
+        viewCountService.increase(ViewCountType.BOARD, 2L);
+        viewCountService.flush();
+
+        assertThat(persisted).containsEntry(1L, 1L).doesNotContainKey(2L);
+        assertThat(viewCountService.getPendingCount(ViewCountType.BOARD, 1L)).isZero();
+        assertThat(viewCountService.getPendingCount(ViewCountType.BOARD, 2L)).isEqualTo(2L);
+
+        viewCountService.flush();
+
+        assertThat(persisted).containsEntry(1L, 1L).containsEntry(2L, 2L);
+        assertThat(viewCountService.getPendingCount(ViewCountType.BOARD, 2L)).isZero();
+    }
+}
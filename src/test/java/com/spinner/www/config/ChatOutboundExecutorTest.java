@@ -0,0 +1,87 @@
+package com.spinner.www.config;
+
+import com.spinner.www.chat.service.ChatSessionEvictor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ChatOutboundExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MeterRegistry meterRegistry;
+    private ChatSessionEvictor chatSessionEvictor;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatSessionEvictor = mock(ChatSessionEvictor.class);
+        executor = new ExecutorConfig().chatOutboundExecutor(meterRegistry, chatSessionEvictor, 1, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 전송을 예외로 거절하고 해당 세션을 끊는다")
+    void rejectThrowsAndEvicts() {
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> executor.execute(sendTask("session-1")))
+                .isInstanceOf(TaskRejectedException.class);
+
+        verify(chatSessionEvictor).evict("session-1");
+        assertThat(meterRegistry.counter("spinner.chat.fanout.dropped").count()).isEqualTo(1.0);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private MessageHandlingRunnable sendTask(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return msg -> { };
+            }
+
+            @Override
+            public void run() {
+            }
+        };
+    }
+}
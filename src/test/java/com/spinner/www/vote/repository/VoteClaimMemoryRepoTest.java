@@ -0,0 +1,67 @@
+package com.spinner.www.vote.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteClaimMemoryRepoTest {
+
+    private final VoteClaimMemoryRepo voteClaimRepo = new VoteClaimMemoryRepo();
+
+    @Test
+    @DisplayName("같은 멱등 키를 동시에 예약하면 한 요청만 성공하고 나머지는 처리 중(빈 값)을 받는다")
+    void concurrentReserve() throws Exception {
+        int requests = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<String> results = new ArrayList<>();
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return voteClaimRepo.reserve(42L, "key", Duration.ofMinutes(1));
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) results.add(future.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(results).filteredOn(result -> result == null).hasSize(1);
+        assertThat(results).filteredOn(result -> result != null).hasSize(requests - 1).allMatch(String::isEmpty);
+    }
+
+    @Test
+    @DisplayName("완료된 키는 저장된 응답을, 취소된 키는 다시 예약할 수 있다")
+    void completeAndCancel() {
+        assertThat(voteClaimRepo.reserve(42L, "done", Duration.ofMinutes(1))).isNull();
+        voteClaimRepo.complete(42L, "done", "{\"status\":200}", Duration.ofMinutes(1));
+        assertThat(voteClaimRepo.reserve(42L, "done", Duration.ofMinutes(1))).isEqualTo("{\"status\":200}");
+
+        // 다른 회원의 같은 키는 별개
+        assertThat(voteClaimRepo.reserve(43L, "done", Duration.ofMinutes(1))).isNull();
+
+        assertThat(voteClaimRepo.reserve(42L, "rolled-back", Duration.ofMinutes(1))).isNull();
+        voteClaimRepo.cancel(42L, "rolled-back");
+        assertThat(voteClaimRepo.reserve(42L, "rolled-back", Duration.ofMinutes(1))).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 새 요청이 다시 예약한다")
+    void expiredReservation() {
+        assertThat(voteClaimRepo.reserve(42L, "key", Duration.ZERO)).isNull();
+        assertThat(voteClaimRepo.reserve(42L, "key", Duration.ofMinutes(1))).isNull();
+    }
+}
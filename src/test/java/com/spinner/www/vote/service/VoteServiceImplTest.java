@@ -0,0 +1,114 @@
+package com.spinner.www.vote.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spinner.www.common.io.CommonResponse;
+import com.spinner.www.constants.CommonResultCode;
+import com.spinner.www.member.dto.SessionInfo;
+import com.spinner.www.vote.io.VoteUserRequest;
+import com.spinner.www.vote.mapper.VoteCustomMapper;
+import com.spinner.www.vote.repository.VoteClaimMemoryRepo;
+import com.spinner.www.vote.repository.VoteRepo;
+import com.spinner.www.vote.repository.VoteUserJdbcRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoteServiceImplTest {
+
+    private static final Long MEMBER_IDX = 42L;
+    private static final String IDEMPOTENCY_KEY = "3f2b9c1e-vote";
+
+    @Mock
+    private SessionInfo sessionInfo;
+
+    @Mock
+    private VoteCustomMapper voteCustomMapper;
+
+    @Mock
+    private VoteRepo voteRepo;
+
+    @Mock
+    private VoteUserJdbcRepo voteUserJdbcRepo;
+
+    @Spy
+    private VoteClaimMemoryRepo voteClaimRepo = new VoteClaimMemoryRepo();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private VoteServiceImpl voteService;
+
+    private VoteUserRequest request;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(voteService, "idempotencyTtlSeconds", 60L);
+        request = VoteUserRequest.builder().voteIdx(7L).memberIdx(MEMBER_IDX).build();
+        when(sessionInfo.getMemberIdx()).thenReturn(MEMBER_IDX);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키의 요청이 처리 중이면 참여하지 않고 409 를 반환한다")
+    void inProgressConflict() {
+        // 앞선 요청이 키를 예약하고 아직 커밋 전
+        assertThat(voteClaimRepo.reserve(MEMBER_IDX, IDEMPOTENCY_KEY, Duration.ofMinutes(1))).isNull();
+
+        ResponseEntity<CommonResponse> response = voteService.selectVoteItem(request, IDEMPOTENCY_KEY);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(CommonResultCode.REQUEST_IN_PROGRESS.code());
+        verifyNoInteractions(voteCustomMapper, voteRepo, voteUserJdbcRepo);
+
+        // 처리 중인 예약은 그대로 남는다
+        assertThat(voteClaimRepo.reserve(MEMBER_IDX, IDEMPOTENCY_KEY, Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 보내면 처음 응답의 상태 코드와 본문을 그대로 반환한다")
+    void completedReplay() {
+        String stored = "{\"status\":400,\"body\":{\"code\":" + CommonResultCode.VOTE_NOT_UPDATE.code()
+                + ",\"message\":\"" + CommonResultCode.VOTE_NOT_UPDATE.message() + "\",\"results\":null}}";
+        voteClaimRepo.complete(MEMBER_IDX, IDEMPOTENCY_KEY, stored, Duration.ofMinutes(1));
+
+        ResponseEntity<CommonResponse> response = voteService.selectVoteItem(request, IDEMPOTENCY_KEY);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(CommonResultCode.VOTE_NOT_UPDATE.code());
+        assertThat(response.getBody().getResults()).isNull();
+        verifyNoInteractions(voteCustomMapper, voteRepo, voteUserJdbcRepo);
+    }
+
+    @Test
+    @DisplayName("성공 응답을 다시 보내면 결과 목록도 그대로 반환한다")
+    void completedReplayWithResults() {
+        String stored = "{\"status\":200,\"body\":{\"code\":" + CommonResultCode.SUCCESS.code()
+                + ",\"message\":\"ok\",\"results\":[11,12]}}";
+        voteClaimRepo.complete(MEMBER_IDX, IDEMPOTENCY_KEY, stored, Duration.ofMinutes(1));
+
+        ResponseEntity<CommonResponse> response = voteService.selectVoteItem(request, IDEMPOTENCY_KEY);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getResults()).isInstanceOf(JsonNode.class);
+        assertThat(response.getBody().getResults().toString()).isEqualTo("[11,12]");
+    }
+}